@@ -0,0 +1,78 @@
+package com.tutorial.mcpserver.bench;
+
+import com.tutorial.mcpserver.model.Message;
+import com.tutorial.mcpserver.model.Segment;
+import com.tutorial.mcpserver.model.User;
+import org.bson.types.ObjectId;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Benchmark'larin kullandigi sabit seed'li ornek veri.
+ *
+ * Alan degerleri DataSeeder / SyntheticDataGenerator ile ayni kumelerden secilir,
+ * boylece render edilen metin ve JSON boyutlari gercek veriye yakin olur.
+ * ID'ler sirayla uretilmis ObjectId'lerdir; string olarak da _id sirasiyla siralanirlar.
+ */
+public final class BenchmarkData {
+
+    private static final long SEED = 42;
+
+    private static final String[] NAMES = {"Ahmet Yilmaz", "Elif Kaya", "Mehmet Demir", "Zeynep Arslan",
+            "Can Ozturk", "Ayse Sahin", "Emre Celik", "Selin Aydin"};
+    private static final String[] DEPARTMENTS = {"Engineering", "Sales", "Marketing", "Operations", "Support"};
+    private static final String[] MSG_TYPES = {"PUSH", "EMAIL", "SMS", "WEB_PUSH", "IN_APP"};
+    private static final String[] SEND_STATUSES = {"FINISHED", "DRAFT", "STOPPED", "DELETED"};
+    private static final String[] SEGMENT_STATUSES = {"READY", "WAITING_CALCULATE", "WAITING_DELETED"};
+
+    private BenchmarkData() {
+    }
+
+    public static List<User> users(int count) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            User user = new User(pick(random, NAMES), "user" + i + "@example.com", pick(random, DEPARTMENTS),
+                    "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z3HbHPxGwWCkGLbh7XkXlbFe");
+            user.setId(new ObjectId().toHexString());
+            users.add(user);
+        }
+        return users;
+    }
+
+    public static List<Message> messages(int count) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<Message> messages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int audience = 1_000 + random.nextInt(50_000);
+            Message message = new Message(pick(random, MSG_TYPES), "CAMPAIGN", "Kampanya #" + i,
+                    "Sepetinizdeki urunlerde %20 indirim, sadece bugune ozel!", pick(random, SEND_STATUSES),
+                    List.of("ANDROID", "IOS"), pick(random, NAMES), "TEXT",
+                    audience, random.nextInt(audience), new Message.Schedule("NOW", null));
+            message.setId(new ObjectId().toHexString());
+            messages.add(message);
+        }
+        return messages;
+    }
+
+    public static List<Segment> segments(int count) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<Segment> segments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int userCount = random.nextInt(100_000);
+            int android = userCount / 2 + random.nextInt(userCount / 4 + 1);
+            Segment segment = new Segment(String.format("s%04d", i % 10_000), "Segment " + i, "STANDARD",
+                    pick(random, SEGMENT_STATUSES), random.nextInt(10) == 0 ? "DELETED" : "ACTIVE",
+                    pick(random, NAMES), userCount, new Segment.DeviceCounts(android, userCount - android, userCount));
+            segment.setId(new ObjectId().toHexString());
+            segments.add(segment);
+        }
+        return segments;
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,136 @@
+package com.tutorial.mcpserver.bench;
+
+import com.tutorial.mcpserver.model.Message;
+import com.tutorial.mcpserver.model.MessageSummary;
+import com.tutorial.mcpserver.model.Segment;
+import com.tutorial.mcpserver.model.SegmentSummary;
+import com.tutorial.mcpserver.model.User;
+import com.tutorial.mcpserver.model.UserSummary;
+import com.tutorial.mcpserver.repository.MessageRepository;
+import com.tutorial.mcpserver.repository.SegmentRepository;
+import com.tutorial.mcpserver.repository.UserRepository;
+import org.springframework.data.domain.Pageable;
+
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Mongo yerine bellekteki listelerden okuyan repository'ler.
+ *
+ * Benchmark'lar Mongo'nun network / disk suresini degil, bizim kodumuzun maliyetini olcer
+ * (tool argument binding, render, JSON serialization). Bu yuzden repository'ler
+ * java.lang.reflect.Proxy ile uretilir ve sadece tool'larin cagirdigi method'lari destekler:
+ *   findAllBy / findByIdGreaterThan → _id sirali sayfa (TreeMap tailMap)
+ *   findById, existsById, streamAllBy ve entity'ye ozel findBy... method'lari
+ *
+ * Desteklenmeyen bir method cagrilirsa UnsupportedOperationException atilir;
+ * yeni bir tool benchmark'a eklenince ilgili method burada tanimlanmalidir.
+ */
+public final class InMemoryRepositories {
+
+    private InMemoryRepositories() {
+    }
+
+    public static UserRepository users(List<User> users) {
+        Table<User> table = new Table<>(users, User::getId);
+        Function<User, UserSummary> summary = u -> new UserSummary(u.getId(), u.getName(), u.getEmail(), u.getDepartment());
+        return proxy(UserRepository.class, Map.of(
+                "findAllBy", args -> table.page(null, (Pageable) args[0], summary),
+                "findByIdGreaterThan", args -> table.page((String) args[0], (Pageable) args[1], summary),
+                "findById", args -> table.findById((String) args[0]),
+                "existsById", args -> table.findById((String) args[0]).isPresent(),
+                "streamAllBy", args -> table.rows().stream(),
+                "findByDepartment", args -> table.where(u -> u.getDepartment().equals(args[0]), summary),
+                "existsByEmail", args -> !table.where(u -> u.getEmail().equals(args[0]), summary).isEmpty(),
+                "findByEmail", args -> table.where(u -> u.getEmail().equals(args[0]), u -> u).stream().findFirst(),
+                "count", args -> (long) table.rows().size()));
+    }
+
+    public static MessageRepository messages(List<Message> messages) {
+        Table<Message> table = new Table<>(messages, Message::getId);
+        Function<Message, MessageSummary> summary = m -> new MessageSummary(
+                m.getId(), m.getMsgType(), m.getTitle(), m.getSendStatus(), m.getTargetAudience());
+        return proxy(MessageRepository.class, Map.of(
+                "findAllBy", args -> table.page(null, (Pageable) args[0], summary),
+                "findByIdGreaterThan", args -> table.page((String) args[0], (Pageable) args[1], summary),
+                "findById", args -> table.findById((String) args[0]),
+                "existsById", args -> table.findById((String) args[0]).isPresent(),
+                "streamAllBy", args -> table.rows().stream(),
+                "findByMsgType", args -> table.where(m -> m.getMsgType().equals(args[0]), summary),
+                "findBySendStatus", args -> table.where(m -> m.getSendStatus().equals(args[0]), summary),
+                "count", args -> (long) table.rows().size()));
+    }
+
+    public static SegmentRepository segments(List<Segment> segments) {
+        Table<Segment> table = new Table<>(segments, Segment::getId);
+        Function<Segment, SegmentSummary> summary = s -> new SegmentSummary(
+                s.getId(), s.getCode(), s.getName(), s.getEntityStatus(), s.getSegmentStatus(), s.getUserCount());
+        return proxy(SegmentRepository.class, Map.of(
+                "findAllBy", args -> table.page(null, (Pageable) args[0], summary),
+                "findByIdGreaterThan", args -> table.page((String) args[0], (Pageable) args[1], summary),
+                "findById", args -> table.findById((String) args[0]),
+                "streamAllBy", args -> table.rows().stream(),
+                "findByCode", args -> table.where(s -> s.getCode().equals(args[0]), s -> s).stream().findFirst(),
+                "findBySegmentStatus", args -> table.where(s -> s.getSegmentStatus().equals(args[0]), summary),
+                "findByEntityStatus", args -> table.where(s -> s.getEntityStatus().equals(args[0]), summary),
+                "count", args -> (long) table.rows().size()));
+    }
+
+    // ── Yardimci Metodlar ──────────────────────────────────────
+
+    private static <R> R proxy(Class<R> repositoryType, Map<String, Function<Object[], Object>> methods) {
+        Object proxy = Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[]{repositoryType},
+                (self, method, args) -> {
+                    if (method.getDeclaringClass() == Object.class) {
+                        return switch (method.getName()) {
+                            case "equals" -> self == args[0];
+                            case "hashCode" -> System.identityHashCode(self);
+                            default -> "InMemory" + repositoryType.getSimpleName();
+                        };
+                    }
+                    Function<Object[], Object> handler = methods.get(method.getName());
+                    if (handler == null) {
+                        throw new UnsupportedOperationException(
+                                repositoryType.getSimpleName() + "." + method.getName() + " is not supported in memory");
+                    }
+                    return handler.apply(args == null ? new Object[0] : args);
+                });
+        return repositoryType.cast(proxy);
+    }
+
+    /**
+     * _id'ye gore sirali tutulan bellek ici "collection".
+     */
+    private static final class Table<T> {
+
+        private final NavigableMap<String, T> byId = new TreeMap<>();
+
+        Table(List<T> rows, Function<T, String> idOf) {
+            rows.forEach(row -> byId.put(idOf.apply(row), row));
+        }
+
+        Collection<T> rows() {
+            return byId.values();
+        }
+
+        Optional<T> findById(String id) {
+            return Optional.ofNullable(byId.get(id));
+        }
+
+        <S> List<S> page(String after, Pageable pageable, Function<T, S> mapper) {
+            Collection<T> from = after == null ? byId.values() : byId.tailMap(after, false).values();
+            return from.stream().limit(pageable.getPageSize()).map(mapper).toList();
+        }
+
+        <S> List<S> where(Predicate<T> filter, Function<T, S> mapper) {
+            return byId.values().stream().filter(filter).map(mapper).toList();
+        }
+    }
+}
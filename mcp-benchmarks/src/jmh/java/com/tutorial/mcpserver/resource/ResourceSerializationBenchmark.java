@@ -0,0 +1,77 @@
+package com.tutorial.mcpserver.resource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.tutorial.mcpserver.bench.BenchmarkData;
+import com.tutorial.mcpserver.bench.InMemoryRepositories;
+import com.tutorial.mcpserver.model.Message;
+import com.tutorial.mcpserver.repository.MessageRepository;
+import com.tutorial.mcpserver.repository.SegmentRepository;
+import com.tutorial.mcpserver.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * users://list, messages://list ve segments://list resource'larinin JSON uretimi.
+ *
+ * UserResourceProvider.writeJsonArray'in streaming yolu olculur (cursor → JsonGenerator).
+ * messagesWriteValueAsString, streaming oncesi yaklasimdir (findAll + writeValueAsString);
+ * B/op farki iki yolun allocation farkini gosterir.
+ *
+ * ObjectMapper, Spring Boot'un varsayilan ayarlariyla kurulur (tarihler ISO string).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ResourceSerializationBenchmark {
+
+    @Param({"1000", "10000"})
+    int rows;
+
+    private ObjectMapper objectMapper;
+    private UserRepository userRepository;
+    private MessageRepository messageRepository;
+    private SegmentRepository segmentRepository;
+    private List<Message> messages;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        messages = BenchmarkData.messages(rows);
+        userRepository = InMemoryRepositories.users(BenchmarkData.users(rows));
+        messageRepository = InMemoryRepositories.messages(messages);
+        segmentRepository = InMemoryRepositories.segments(BenchmarkData.segments(rows));
+    }
+
+    @Benchmark
+    public String users() {
+        return UserResourceProvider.writeJsonArray(userRepository.streamAllBy(), objectMapper);
+    }
+
+    @Benchmark
+    public String messages() {
+        return UserResourceProvider.writeJsonArray(messageRepository.streamAllBy(), objectMapper);
+    }
+
+    @Benchmark
+    public String segments() {
+        return UserResourceProvider.writeJsonArray(segmentRepository.streamAllBy(), objectMapper);
+    }
+
+    @Benchmark
+    public String messagesWriteValueAsString() throws Exception {
+        return objectMapper.writeValueAsString(messages);
+    }
+}
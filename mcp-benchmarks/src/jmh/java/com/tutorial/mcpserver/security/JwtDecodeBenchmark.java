@@ -0,0 +1,91 @@
+package com.tutorial.mcpserver.security;
+
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /mcp isteklerindeki JWT dogrulamasi (SecurityConfig'in resource server filter chain'i).
+ *
+ *   decode       → ResourceServerJwtDecoder (local mod): her cagrida RS256 imza kontrolu + iss/exp/nbf
+ *   decodeCached → CachingJwtDecoder + JwtCache: ayni token tekrar geldiginde imza kontrolu yapilmaz
+ *
+ * Token, Authorization Server'in yaptigi gibi RSA 2048 anahtariyla imzalanir.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtDecodeBenchmark {
+
+    private static final String ISSUER = "https://mcp.example.com";
+
+    private JwtDecoder decoder;
+    private JwtDecoder cachingDecoder;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        RSAKey rsaKey = new RSAKeyGenerator(2048).keyID("benchmark").generate();
+        JWKSource<SecurityContext> jwkSource = new ImmutableJWKSet<>(new JWKSet(rsaKey));
+
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .issuer(ISSUER)
+                .subject("ahmet@example.com")
+                .audience(List.of("mcp-client"))
+                .issuedAt(now)
+                .expiresAt(now.plus(Duration.ofHours(1)))
+                .claim("scope", "openid profile")
+                .build();
+        token = new NimbusJwtEncoder(jwkSource)
+                .encode(JwtEncoderParameters.from(JwsHeader.with(SignatureAlgorithm.RS256).build(), claims))
+                .getTokenValue();
+
+        ResourceServerJwtDecoder resourceServerDecoder =
+                new ResourceServerJwtDecoder(jwkSourceProvider(jwkSource), ISSUER, ResourceServerJwtDecoder.Mode.LOCAL);
+        resourceServerDecoder.prewarm();
+        decoder = resourceServerDecoder;
+        cachingDecoder = new CachingJwtDecoder(resourceServerDecoder, new JwtCache(true, 10_000, Duration.ofMinutes(10)));
+    }
+
+    @Benchmark
+    public Jwt decode() {
+        return decoder.decode(token);
+    }
+
+    @Benchmark
+    public Jwt decodeCached() {
+        return cachingDecoder.decode(token);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<JWKSource<SecurityContext>> jwkSourceProvider(JWKSource<SecurityContext> jwkSource) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("jwkSource", jwkSource);
+        return (ObjectProvider<JWKSource<SecurityContext>>) (ObjectProvider<?>) beanFactory.getBeanProvider(JWKSource.class);
+    }
+}
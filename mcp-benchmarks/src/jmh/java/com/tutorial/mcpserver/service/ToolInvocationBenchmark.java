@@ -0,0 +1,100 @@
+package com.tutorial.mcpserver.service;
+
+import com.tutorial.mcpserver.bench.BenchmarkData;
+import com.tutorial.mcpserver.bench.InMemoryRepositories;
+import com.tutorial.mcpserver.model.Message;
+import com.tutorial.mcpserver.repository.MessageRepository;
+import com.tutorial.mcpserver.repository.SegmentRepository;
+import com.tutorial.mcpserver.stats.StatsCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.method.MethodToolCallbackProvider;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * MCP'nin tool cagirma yolu: MethodToolCallbackProvider'in urettigi ToolCallback'ler.
+ *
+ * Her cagrida JSON argument'lar parse edilir, method parametrelerine baglanir,
+ * method reflection ile cagrilir ve donen ToolOutput record'u JSON'a cevrilir (McpToolConfig ile ayni callback'ler,
+ * cache / bulkhead decorator'lari olmadan).
+ * *Direct benchmark'lari ayni tool'u Java'dan dogrudan cagirir; aradaki fark binding maliyetidir.
+ *
+ * Repository'ler bellektedir (bkz. InMemoryRepositories), Mongo suresi olcume girmez.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ToolInvocationBenchmark {
+
+    @Param({"10000"})
+    int rows;
+
+    private UserService userService;
+    private MessageService messageService;
+    private Map<String, ToolCallback> callbacks;
+
+    private String listUsersInput;
+    private String getMessageInput;
+    private String messageId;
+
+    @Setup
+    public void setUp() {
+        List<Message> messages = BenchmarkData.messages(rows);
+        MessageRepository messageRepository = InMemoryRepositories.messages(messages);
+        SegmentRepository segmentRepository = InMemoryRepositories.segments(BenchmarkData.segments(rows));
+        StatsCounters statsCounters = new StatsCounters(messageRepository, segmentRepository);
+
+        userService = new UserService(InMemoryRepositories.users(BenchmarkData.users(rows)));
+        messageService = new MessageService(messageRepository, statsCounters);
+        SegmentService segmentService = new SegmentService(segmentRepository, statsCounters);
+
+        ToolCallback[] toolCallbacks = MethodToolCallbackProvider.builder()
+                .toolObjects(userService, messageService, segmentService)
+                .build()
+                .getToolCallbacks();
+        callbacks = Arrays.stream(toolCallbacks)
+                .collect(Collectors.toMap(c -> c.getToolDefinition().name(), Function.identity()));
+
+        messageId = messages.get(rows / 2).getId();
+        listUsersInput = "{\"pageSize\": 50}";
+        getMessageInput = "{\"messageId\": \"" + messageId + "\"}";
+    }
+
+    @Benchmark
+    public String listAllUsers() {
+        return callbacks.get("listAllUsers").call(listUsersInput);
+    }
+
+    @Benchmark
+    public UserService.UserPage listAllUsersDirect() {
+        return userService.listAllUsers(50, null);
+    }
+
+    @Benchmark
+    public String getMessageById() {
+        return callbacks.get("getMessageById").call(getMessageInput);
+    }
+
+    @Benchmark
+    public MessageService.MessageFound getMessageByIdDirect() {
+        return messageService.getMessageById(messageId);
+    }
+
+    @Benchmark
+    public String findSegmentsByStatus() {
+        return callbacks.get("findSegmentsByStatus").call("{\"segmentStatus\": \"WAITING_DELETED\"}");
+    }
+}
@@ -0,0 +1,80 @@
+package com.tutorial.mcpserver.service;
+
+import com.tutorial.mcpserver.bench.BenchmarkData;
+import com.tutorial.mcpserver.model.MessageSummary;
+import com.tutorial.mcpserver.model.SegmentSummary;
+import com.tutorial.mcpserver.model.UserSummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tool cikti metinlerinin render maliyeti: ToolOutput.toText() (repository yok, sadece String uretimi).
+ * MCP'de bu metin sadece client _meta: {"format": "text"} istediginde uretilir.
+ *
+ * pageSize: listAllUsers / listMessages / listSegments'in varsayilan (50) ve en buyuk (500) sayfasi.
+ * Tek kayit render'lari (getMessageById, getSegmentByCode) sayfa boyutundan bagimsizdir.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ToolRenderingBenchmark {
+
+    @Param({"50", "500"})
+    int pageSize;
+
+    private UserService.UserPage userPage;
+    private MessageService.MessagePage messagePage;
+    private SegmentService.SegmentPage segmentPage;
+    private MessageService.MessageFound message;
+    private SegmentService.SegmentFound segment;
+
+    @Setup
+    public void setUp() {
+        // pageSize + 1 kayit: repository'nin dondurdugu gibi, son sayfada olmadigimiz icin nextCursor da render edilir
+        userPage = UserService.UserPage.of(KeysetPage.of(BenchmarkData.users(pageSize + 1).stream()
+                .map(u -> new UserSummary(u.getId(), u.getName(), u.getEmail(), u.getDepartment()))
+                .toList(), pageSize, UserSummary::id), null);
+        messagePage = MessageService.MessagePage.of(KeysetPage.of(BenchmarkData.messages(pageSize + 1).stream()
+                .map(m -> new MessageSummary(m.getId(), m.getMsgType(), m.getTitle(), m.getSendStatus(), m.getTargetAudience()))
+                .toList(), pageSize, MessageSummary::id), null);
+        segmentPage = SegmentService.SegmentPage.of(KeysetPage.of(BenchmarkData.segments(pageSize + 1).stream()
+                .map(s -> new SegmentSummary(s.getId(), s.getCode(), s.getName(),
+                        s.getEntityStatus(), s.getSegmentStatus(), s.getUserCount()))
+                .toList(), pageSize, SegmentSummary::id), null);
+        message = new MessageService.MessageFound(BenchmarkData.messages(1).get(0));
+        segment = new SegmentService.SegmentFound(BenchmarkData.segments(1).get(0));
+    }
+
+    @Benchmark
+    public String userPage() {
+        return userPage.toText();
+    }
+
+    @Benchmark
+    public String messagePage() {
+        return messagePage.toText();
+    }
+
+    @Benchmark
+    public String segmentPage() {
+        return segmentPage.toText();
+    }
+
+    @Benchmark
+    public String messageDetail() {
+        return message.toText();
+    }
+
+    @Benchmark
+    public String segmentDetail() {
+        return segment.toText();
+    }
+}
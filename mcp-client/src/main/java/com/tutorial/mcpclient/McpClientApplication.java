@@ -2,6 +2,7 @@ package com.tutorial.mcpclient;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * MCP Client uygulamasi.
@@ -11,9 +12,13 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * 2. Server'daki tool ve resource listesini ceker
  * 3. CommandLineRunner (McpDemoRunner) ile demo islemleri gerceklestirir
  *
+ * REST endpoint'leri MCP Server'a McpClientPool'daki session'lar uzerinden gider
+ * (havuzun health check'i @Scheduled ile calisir).
+ *
  * ONEMLI: Bu uygulamayi baslatmadan once MCP Server'in calisiyor olmasi gerekir!
  */
 @SpringBootApplication
+@EnableScheduling
 public class McpClientApplication {
 
     public static void main(String[] args) {
@@ -1,11 +1,9 @@
 package com.tutorial.mcpclient.controller;
 
-import io.modelcontextprotocol.client.McpSyncClient;
+import com.tutorial.mcpclient.tracing.TracedMcpCalls;
 import io.modelcontextprotocol.spec.McpSchema;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -14,7 +12,7 @@ import java.util.Map;
  * MCP Server'daki 6 message tool'unu HTTP endpoint olarak sunar.
  *
  * Tool'lar:
- *   GET  /api/tools/messages                    → listMessages
+ *   GET  /api/tools/messages?pageSize=&after=   → listMessages (sayfali)
  *   GET  /api/tools/messages/{id}               → getMessageById
  *   GET  /api/tools/messages/type/{type}        → findMessagesByType
  *   GET  /api/tools/messages/status/{status}    → findMessagesByStatus
@@ -27,80 +25,78 @@ import java.util.Map;
 @RestController
 public class MessageToolController {
 
-    private final McpSyncClient mcpClient;
+    private final TracedMcpCalls mcpCalls;
 
-    public MessageToolController(List<McpSyncClient> mcpClients) {
-        this.mcpClient = mcpClients.get(0);
+    public MessageToolController(TracedMcpCalls mcpCalls) {
+        this.mcpCalls = mcpCalls;
     }
 
     @GetMapping("/api/tools/messages")
-    public Map<String, Object> listMessages() {
-        McpSchema.CallToolResult result = mcpClient.callTool(
-                new McpSchema.CallToolRequest("listMessages", Map.of())
+    public Map<String, Object> listMessages(@RequestParam(required = false) Integer pageSize,
+                                            @RequestParam(required = false) String after,
+                                            @RequestParam(required = false) String format) {
+        McpSchema.CallToolResult result = mcpCalls.callTool(
+                UserToolController.toolRequest("listMessages",
+                        UserToolController.pageArguments(pageSize, after), format)
         );
-        return buildResponse("listMessages", result);
+        return UserToolController.buildResponse("listMessages", result, format);
     }
 
     @GetMapping("/api/tools/messages/{id}")
-    public Map<String, Object> getMessageById(@PathVariable String id) {
-        McpSchema.CallToolResult result = mcpClient.callTool(
-                new McpSchema.CallToolRequest("getMessageById",
-                        Map.of("messageId", id))
+    public Map<String, Object> getMessageById(@PathVariable String id,
+                                              @RequestParam(required = false) String format) {
+        McpSchema.CallToolResult result = mcpCalls.callTool(
+                UserToolController.toolRequest("getMessageById",
+                        Map.of("messageId", id), format)
         );
-        return buildResponse("getMessageById", result);
+        return UserToolController.buildResponse("getMessageById", result, format);
     }
 
     @GetMapping("/api/tools/messages/type/{type}")
-    public Map<String, Object> findMessagesByType(@PathVariable String type) {
-        McpSchema.CallToolResult result = mcpClient.callTool(
-                new McpSchema.CallToolRequest("findMessagesByType",
-                        Map.of("msgType", type))
+    public Map<String, Object> findMessagesByType(@PathVariable String type,
+                                                  @RequestParam(required = false) String format) {
+        McpSchema.CallToolResult result = mcpCalls.callTool(
+                UserToolController.toolRequest("findMessagesByType",
+                        Map.of("msgType", type), format)
         );
-        return buildResponse("findMessagesByType", result);
+        return UserToolController.buildResponse("findMessagesByType", result, format);
     }
 
     @GetMapping("/api/tools/messages/status/{status}")
-    public Map<String, Object> findMessagesByStatus(@PathVariable String status) {
-        McpSchema.CallToolResult result = mcpClient.callTool(
-                new McpSchema.CallToolRequest("findMessagesByStatus",
-                        Map.of("sendStatus", status))
+    public Map<String, Object> findMessagesByStatus(@PathVariable String status,
+                                                    @RequestParam(required = false) String format) {
+        McpSchema.CallToolResult result = mcpCalls.callTool(
+                UserToolController.toolRequest("findMessagesByStatus",
+                        Map.of("sendStatus", status), format)
         );
-        return buildResponse("findMessagesByStatus", result);
+        return UserToolController.buildResponse("findMessagesByStatus", result, format);
     }
 
     @PostMapping("/api/tools/messages")
-    public Map<String, Object> createMessage(@RequestBody Map<String, String> body) {
-        McpSchema.CallToolResult result = mcpClient.callTool(
-                new McpSchema.CallToolRequest("createMessage", Map.of(
+    public Map<String, Object> createMessage(@RequestBody Map<String, String> body,
+                                             @RequestParam(required = false) String format) {
+        McpSchema.CallToolResult result = mcpCalls.callTool(
+                UserToolController.toolRequest("createMessage", Map.of(
                         "msgType", body.getOrDefault("msgType", "PUSH"),
                         "title", body.getOrDefault("title", ""),
                         "messageContent", body.getOrDefault("message", ""),
                         "platforms", body.getOrDefault("platforms", "ANDROID,IOS")
-                ))
+                ), format)
         );
-        return buildResponse("createMessage", result);
+        return UserToolController.buildResponse("createMessage", result, format);
     }
 
     @GetMapping("/api/tools/messages/stats")
-    public Map<String, Object> getMessageStats() {
-        McpSchema.CallToolResult result = mcpClient.callTool(
-                new McpSchema.CallToolRequest("getMessageStats", Map.of())
+    public Map<String, Object> getMessageStats(@RequestParam(required = false) String format) {
+        McpSchema.CallToolResult result = mcpCalls.callTool(
+                UserToolController.toolRequest("getMessageStats", Map.of(), format)
         );
-        return buildResponse("getMessageStats", result);
+        return UserToolController.buildResponse("getMessageStats", result, format);
     }
 
     @GetMapping("/api/resources/messages")
     public Map<String, Object> messagesResource() {
-        McpSchema.ReadResourceResult result = mcpClient.readResource(
-                new McpSchema.ReadResourceRequest("messages://list")
-        );
+        McpSchema.ReadResourceResult result = mcpCalls.readResource("messages://list");
         return UserToolController.buildResourceResponse("messages://list", result);
     }
-
-    private Map<String, Object> buildResponse(String toolName, McpSchema.CallToolResult result) {
-        Map<String, Object> response = new LinkedHashMap<>();
-        response.put("tool", toolName);
-        response.put("result", UserToolController.extractText(result));
-        return response;
-    }
 }
@@ -0,0 +1,38 @@
+package com.tutorial.mcpclient.controller;
+
+import com.tutorial.mcpclient.discovery.DiscoveryCache;
+import com.tutorial.mcpclient.pool.McpClientPool;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * Client'in calisma zamani sayaclarini JSON olarak gosterir.
+ *
+ *   GET /internal/stats/mcp-pool  → session havuzu boyutu, session bazinda in-flight/tamamlanan cagri sayilari
+ *   GET /internal/stats/discovery → discovery cache hit/load/invalidation sayilari
+ */
+@RestController
+@RequestMapping("/internal/stats")
+public class RuntimeStatsController {
+
+    private final McpClientPool clientPool;
+    private final DiscoveryCache discoveryCache;
+
+    public RuntimeStatsController(McpClientPool clientPool, DiscoveryCache discoveryCache) {
+        this.clientPool = clientPool;
+        this.discoveryCache = discoveryCache;
+    }
+
+    @GetMapping("/mcp-pool")
+    public Map<String, Object> mcpPool() {
+        return clientPool.stats();
+    }
+
+    @GetMapping("/discovery")
+    public Map<String, Object> discovery() {
+        return discoveryCache.stats();
+    }
+}
@@ -1,11 +1,9 @@
 package com.tutorial.mcpclient.controller;
 
-import io.modelcontextprotocol.client.McpSyncClient;
+import com.tutorial.mcpclient.tracing.TracedMcpCalls;
 import io.modelcontextprotocol.spec.McpSchema;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -14,7 +12,7 @@ import java.util.Map;
  * MCP Server'daki 5 segment tool'unu HTTP endpoint olarak sunar.
  *
  * Tool'lar:
- *   GET  /api/tools/segments                    → listSegments
+ *   GET  /api/tools/segments?pageSize=&after=   → listSegments (sayfali)
  *   GET  /api/tools/segments/code/{code}        → getSegmentByCode
  *   GET  /api/tools/segments/status/{status}    → findSegmentsByStatus
  *   GET  /api/tools/segments/active             → findActiveSegments
@@ -26,66 +24,62 @@ import java.util.Map;
 @RestController
 public class SegmentToolController {
 
-    private final McpSyncClient mcpClient;
+    private final TracedMcpCalls mcpCalls;
 
-    public SegmentToolController(List<McpSyncClient> mcpClients) {
-        this.mcpClient = mcpClients.get(0);
+    public SegmentToolController(TracedMcpCalls mcpCalls) {
+        this.mcpCalls = mcpCalls;
     }
 
     @GetMapping("/api/tools/segments")
-    public Map<String, Object> listSegments() {
-        McpSchema.CallToolResult result = mcpClient.callTool(
-                new McpSchema.CallToolRequest("listSegments", Map.of())
+    public Map<String, Object> listSegments(@RequestParam(required = false) Integer pageSize,
+                                            @RequestParam(required = false) String after,
+                                            @RequestParam(required = false) String format) {
+        McpSchema.CallToolResult result = mcpCalls.callTool(
+                UserToolController.toolRequest("listSegments",
+                        UserToolController.pageArguments(pageSize, after), format)
         );
-        return buildResponse("listSegments", result);
+        return UserToolController.buildResponse("listSegments", result, format);
     }
 
     @GetMapping("/api/tools/segments/code/{code}")
-    public Map<String, Object> getSegmentByCode(@PathVariable String code) {
-        McpSchema.CallToolResult result = mcpClient.callTool(
-                new McpSchema.CallToolRequest("getSegmentByCode",
-                        Map.of("code", code))
+    public Map<String, Object> getSegmentByCode(@PathVariable String code,
+                                                @RequestParam(required = false) String format) {
+        McpSchema.CallToolResult result = mcpCalls.callTool(
+                UserToolController.toolRequest("getSegmentByCode",
+                        Map.of("code", code), format)
         );
-        return buildResponse("getSegmentByCode", result);
+        return UserToolController.buildResponse("getSegmentByCode", result, format);
     }
 
     @GetMapping("/api/tools/segments/status/{status}")
-    public Map<String, Object> findSegmentsByStatus(@PathVariable String status) {
-        McpSchema.CallToolResult result = mcpClient.callTool(
-                new McpSchema.CallToolRequest("findSegmentsByStatus",
-                        Map.of("segmentStatus", status))
+    public Map<String, Object> findSegmentsByStatus(@PathVariable String status,
+                                                    @RequestParam(required = false) String format) {
+        McpSchema.CallToolResult result = mcpCalls.callTool(
+                UserToolController.toolRequest("findSegmentsByStatus",
+                        Map.of("segmentStatus", status), format)
         );
-        return buildResponse("findSegmentsByStatus", result);
+        return UserToolController.buildResponse("findSegmentsByStatus", result, format);
     }
 
     @GetMapping("/api/tools/segments/active")
-    public Map<String, Object> findActiveSegments() {
-        McpSchema.CallToolResult result = mcpClient.callTool(
-                new McpSchema.CallToolRequest("findActiveSegments", Map.of())
+    public Map<String, Object> findActiveSegments(@RequestParam(required = false) String format) {
+        McpSchema.CallToolResult result = mcpCalls.callTool(
+                UserToolController.toolRequest("findActiveSegments", Map.of(), format)
         );
-        return buildResponse("findActiveSegments", result);
+        return UserToolController.buildResponse("findActiveSegments", result, format);
     }
 
     @GetMapping("/api/tools/segments/stats")
-    public Map<String, Object> getSegmentStats() {
-        McpSchema.CallToolResult result = mcpClient.callTool(
-                new McpSchema.CallToolRequest("getSegmentStats", Map.of())
+    public Map<String, Object> getSegmentStats(@RequestParam(required = false) String format) {
+        McpSchema.CallToolResult result = mcpCalls.callTool(
+                UserToolController.toolRequest("getSegmentStats", Map.of(), format)
         );
-        return buildResponse("getSegmentStats", result);
+        return UserToolController.buildResponse("getSegmentStats", result, format);
     }
 
     @GetMapping("/api/resources/segments")
     public Map<String, Object> segmentsResource() {
-        McpSchema.ReadResourceResult result = mcpClient.readResource(
-                new McpSchema.ReadResourceRequest("segments://list")
-        );
+        McpSchema.ReadResourceResult result = mcpCalls.readResource("segments://list");
         return UserToolController.buildResourceResponse("segments://list", result);
     }
-
-    private Map<String, Object> buildResponse(String toolName, McpSchema.CallToolResult result) {
-        Map<String, Object> response = new LinkedHashMap<>();
-        response.put("tool", toolName);
-        response.put("result", UserToolController.extractText(result));
-        return response;
-    }
 }
@@ -0,0 +1,168 @@
+package com.tutorial.mcpclient.controller;
+
+import com.tutorial.mcpclient.tracing.TracedMcpCalls;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import io.modelcontextprotocol.spec.McpSchema;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Birden fazla tool cagrisini tek HTTP isteginde, paralel olarak calistirir.
+ *
+ *   POST /api/tools/batch
+ *   {
+ *     "calls": [
+ *       { "tool": "getSegmentStats" },
+ *       { "tool": "findUsersByDepartment", "arguments": { "department": "Engineering" }, "format": "text" }
+ *     ]
+ *   }
+ *
+ * Her cagri ayri bir virtual thread'de calisir; tum batch istekleri toplaminda ayni anda en fazla
+ * mcp.batch.max-parallelism cagri server'a gider (izinler controller genelinde paylasilir,
+ * es zamanli batch'ler sinirin katlarina cikamaz). Sonuclar istekteki sirayla,
+ * her cagrinin kendi suresiyle birlikte doner. Toplam sure, cagrilarin toplami degil
+ * en yavas cagrinin suresi kadardir.
+ *
+ * Cagrilar calistirilmadan once kontrol edilir: null eleman ya da bos tool adi varsa
+ * hicbir cagri yapilmaz, 400 doner.
+ *
+ * Cagrilar McpClientPool uzerinden gider; es zamanli cagrilar havuzdaki
+ * en az mesgul session'lara dagilir. Virtual thread'lere istegin trace context'i tasinir,
+ * her cagri HTTP isteginin span'i altinda kendi span'ini acar (bkz. TracedMcpCalls).
+ */
+@RestController
+public class ToolBatchController {
+
+    private final TracedMcpCalls mcpCalls;
+    private final int maxParallelism;
+    private final int maxCalls;
+    private final Semaphore permits;
+    private final ExecutorService executor = ContextExecutorService.wrap(
+            Executors.newVirtualThreadPerTaskExecutor(), ContextSnapshotFactory.builder().build()::captureAll);
+
+    public ToolBatchController(TracedMcpCalls mcpCalls,
+                               @Value("${mcp.batch.max-parallelism:8}") int maxParallelism,
+                               @Value("${mcp.batch.max-calls:50}") int maxCalls) {
+        this.mcpCalls = mcpCalls;
+        this.maxParallelism = maxParallelism;
+        this.maxCalls = maxCalls;
+        this.permits = new Semaphore(maxParallelism);
+    }
+
+    /**
+     * @param tool      cagrilacak tool adi
+     * @param arguments tool argumanlari (yoksa bos)
+     * @param format    "text" ise sonuc insan okunur metin, aksi halde structuredContent
+     */
+    public record ToolCall(String tool, Map<String, Object> arguments, String format) {
+    }
+
+    public record BatchRequest(List<ToolCall> calls) {
+    }
+
+    @PostMapping("/api/tools/batch")
+    public Map<String, Object> batch(@RequestBody BatchRequest request) {
+        List<ToolCall> calls = request.calls();
+        if (calls == null || calls.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "'calls' must contain at least one tool call");
+        }
+        if (calls.size() > maxCalls) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "A batch can contain at most " + maxCalls + " calls");
+        }
+        for (int i = 0; i < calls.size(); i++) {
+            ToolCall call = calls.get(i);
+            if (call == null || call.tool() == null || call.tool().isBlank()) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "calls[" + i + "].tool is required");
+            }
+        }
+
+        long start = System.nanoTime();
+        List<Future<Map<String, Object>>> futures = new ArrayList<>(calls.size());
+        for (int i = 0; i < calls.size(); i++) {
+            int index = i;
+            ToolCall call = calls.get(i);
+            futures.add(executor.submit(() -> runCall(index, call)));
+        }
+
+        List<Map<String, Object>> results = new ArrayList<>(calls.size());
+        for (Future<Map<String, Object>> future : futures) {
+            results.add(await(future));
+        }
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("totalCalls", calls.size());
+        response.put("maxParallelism", maxParallelism);
+        response.put("totalMs", elapsedMs(start));
+        response.put("results", results);
+        return response;
+    }
+
+    // ── Yardimci Metodlar ──────────────────────────────────────
+
+    private Map<String, Object> runCall(int index, ToolCall call) throws InterruptedException {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("index", index);
+        result.put("tool", call.tool());
+
+        long queuedAt = System.nanoTime();
+        permits.acquire();
+        long start = System.nanoTime();
+        result.put("waitMs", elapsedMs(queuedAt, start));
+        try {
+            Map<String, Object> arguments = call.arguments() != null ? call.arguments() : Map.of();
+            McpSchema.CallToolResult toolResult = mcpCalls.callTool(
+                    UserToolController.toolRequest(call.tool(), arguments, call.format()));
+            result.put("durationMs", elapsedMs(start));
+            result.put("isError", Boolean.TRUE.equals(toolResult.isError()));
+            result.put("result", UserToolController.resultValue(toolResult, call.format()));
+        } catch (RuntimeException e) {
+            result.put("durationMs", elapsedMs(start));
+            result.put("isError", true);
+            result.put("error", e.getMessage());
+        } finally {
+            permits.release();
+        }
+        return result;
+    }
+
+    private static Map<String, Object> await(Future<Map<String, Object>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Batch interrupted", e);
+        } catch (ExecutionException e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Batch call failed", e.getCause());
+        }
+    }
+
+    private static double elapsedMs(long startNanos) {
+        return elapsedMs(startNanos, System.nanoTime());
+    }
+
+    private static double elapsedMs(long startNanos, long endNanos) {
+        return (endNanos - startNanos) / 1_000_000.0;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
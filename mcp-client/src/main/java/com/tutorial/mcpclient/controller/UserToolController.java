@@ -1,6 +1,6 @@
 package com.tutorial.mcpclient.controller;
 
-import io.modelcontextprotocol.client.McpSyncClient;
+import com.tutorial.mcpclient.tracing.TracedMcpCalls;
 import io.modelcontextprotocol.spec.McpSchema;
 import org.springframework.web.bind.annotation.*;
 
@@ -11,91 +11,160 @@ import java.util.Map;
 /**
  * User MCP Tool'lari REST Controller.
  *
- * MCP Server'daki 5 user tool'unu HTTP endpoint olarak sunar.
+ * MCP Server'daki 6 user tool'unu HTTP endpoint olarak sunar.
  * Her endpoint, MCP protokolu uzerinden tool'u cagirir ve
  * sonucu JSON olarak dondurur.
  *
  * Tool'lar:
- *   GET    /api/tools/users                     → listAllUsers
+ *   GET    /api/tools/users?pageSize=&after=    → listAllUsers (sayfali)
  *   GET    /api/tools/users/{id}                → getUserById
  *   POST   /api/tools/users                     → createUser
+ *   POST   /api/tools/users/batch               → createUsers (body: [{name, email, department}, ...])
  *   DELETE /api/tools/users/{id}                → deleteUser
  *   GET    /api/tools/users/department/{dept}   → findUsersByDepartment
  *
  * Resource:
  *   GET    /api/resources/users                 → users://list
+ *
+ * Tool endpoint'leri varsayilan olarak tool'un structuredContent'ini "result" alaninda dondurur.
+ * ?format=text verilirse server'in urettigi insan okunur metin doner (tum tool controller'lari icin gecerli).
  */
 @RestController
 public class UserToolController {
 
-    private final McpSyncClient mcpClient;
+    static final String FORMAT_META = "format";
+    static final String TEXT_FORMAT = "text";
+
+    private final TracedMcpCalls mcpCalls;
 
-    public UserToolController(List<McpSyncClient> mcpClients) {
-        this.mcpClient = mcpClients.get(0);
+    public UserToolController(TracedMcpCalls mcpCalls) {
+        this.mcpCalls = mcpCalls;
     }
 
     @GetMapping("/api/tools/users")
-    public Map<String, Object> listAllUsers() {
-        McpSchema.CallToolResult result = mcpClient.callTool(
-                new McpSchema.CallToolRequest("listAllUsers", Map.of())
+    public Map<String, Object> listAllUsers(@RequestParam(required = false) Integer pageSize,
+                                            @RequestParam(required = false) String after,
+                                            @RequestParam(required = false) String format) {
+        McpSchema.CallToolResult result = mcpCalls.callTool(
+                toolRequest("listAllUsers", pageArguments(pageSize, after), format)
         );
-        return buildResponse("listAllUsers", result);
+        return buildResponse("listAllUsers", result, format);
     }
 
     @GetMapping("/api/tools/users/{id}")
-    public Map<String, Object> getUserById(@PathVariable String id) {
-        McpSchema.CallToolResult result = mcpClient.callTool(
-                new McpSchema.CallToolRequest("getUserById", Map.of("userId", id))
+    public Map<String, Object> getUserById(@PathVariable String id,
+                                           @RequestParam(required = false) String format) {
+        McpSchema.CallToolResult result = mcpCalls.callTool(
+                toolRequest("getUserById", Map.of("userId", id), format)
         );
-        return buildResponse("getUserById", result);
+        return buildResponse("getUserById", result, format);
     }
 
     @PostMapping("/api/tools/users")
-    public Map<String, Object> createUser(@RequestBody Map<String, String> body) {
-        McpSchema.CallToolResult result = mcpClient.callTool(
-                new McpSchema.CallToolRequest("createUser", Map.of(
+    public Map<String, Object> createUser(@RequestBody Map<String, String> body,
+                                          @RequestParam(required = false) String format) {
+        McpSchema.CallToolResult result = mcpCalls.callTool(
+                toolRequest("createUser", Map.of(
                         "name", body.getOrDefault("name", ""),
                         "email", body.getOrDefault("email", ""),
                         "department", body.getOrDefault("department", "")
-                ))
+                ), format)
+        );
+        return buildResponse("createUser", result, format);
+    }
+
+    /**
+     * Tek MCP cagrisiyla toplu kullanici olusturur; sonuc her kullanici icin ayri (CREATED, DUPLICATE ...).
+     */
+    @PostMapping("/api/tools/users/batch")
+    public Map<String, Object> createUsers(@RequestBody List<Map<String, String>> users,
+                                           @RequestParam(required = false) String format) {
+        McpSchema.CallToolResult result = mcpCalls.callTool(
+                toolRequest("createUsers", Map.of("users", users), format)
         );
-        return buildResponse("createUser", result);
+        return buildResponse("createUsers", result, format);
     }
 
     @DeleteMapping("/api/tools/users/{id}")
-    public Map<String, Object> deleteUser(@PathVariable String id) {
-        McpSchema.CallToolResult result = mcpClient.callTool(
-                new McpSchema.CallToolRequest("deleteUser", Map.of("userId", id))
+    public Map<String, Object> deleteUser(@PathVariable String id,
+                                          @RequestParam(required = false) String format) {
+        McpSchema.CallToolResult result = mcpCalls.callTool(
+                toolRequest("deleteUser", Map.of("userId", id), format)
         );
-        return buildResponse("deleteUser", result);
+        return buildResponse("deleteUser", result, format);
     }
 
     @GetMapping("/api/tools/users/department/{department}")
-    public Map<String, Object> findUsersByDepartment(@PathVariable String department) {
-        McpSchema.CallToolResult result = mcpClient.callTool(
-                new McpSchema.CallToolRequest("findUsersByDepartment",
-                        Map.of("department", department))
+    public Map<String, Object> findUsersByDepartment(@PathVariable String department,
+                                                     @RequestParam(required = false) String format) {
+        McpSchema.CallToolResult result = mcpCalls.callTool(
+                toolRequest("findUsersByDepartment",
+                        Map.of("department", department), format)
         );
-        return buildResponse("findUsersByDepartment", result);
+        return buildResponse("findUsersByDepartment", result, format);
     }
 
     @GetMapping("/api/resources/users")
     public Map<String, Object> usersResource() {
-        McpSchema.ReadResourceResult result = mcpClient.readResource(
-                new McpSchema.ReadResourceRequest("users://list")
-        );
+        McpSchema.ReadResourceResult result = mcpCalls.readResource("users://list");
         return buildResourceResponse("users://list", result);
     }
 
     // ── Yardimci Metodlar ──────────────────────────────────────
 
-    private Map<String, Object> buildResponse(String toolName, McpSchema.CallToolResult result) {
+    /**
+     * format=text ise server'dan _meta ile insan okunur metin istenir; aksi halde sadece
+     * structuredContent kullanilir ve server metni hic render etmez.
+     */
+    static McpSchema.CallToolRequest toolRequest(String toolName, Map<String, Object> arguments, String format) {
+        return McpSchema.CallToolRequest.builder()
+                .name(toolName)
+                .arguments(arguments)
+                .meta(TEXT_FORMAT.equals(format) ? Map.of(FORMAT_META, TEXT_FORMAT) : null)
+                .build();
+    }
+
+    /**
+     * structuredContent, MCP client'in parse ettigi haliyle (Map) oldugu gibi JSON cevaba konur;
+     * metin tekrar parse edilmez. Tool hata dondurduyse (isError) mesaji "error" alanina yazilir.
+     */
+    static Map<String, Object> buildResponse(String toolName, McpSchema.CallToolResult result, String format) {
         Map<String, Object> response = new LinkedHashMap<>();
         response.put("tool", toolName);
-        response.put("result", extractText(result));
+        if (Boolean.TRUE.equals(result.isError())) {
+            response.put("isError", true);
+            response.put("error", extractText(result));
+        } else {
+            response.put("result", resultValue(result, format));
+        }
         return response;
     }
 
+    /**
+     * Tool sonucunun cevaba konacak hali: structuredContent, metin istendiyse (veya yoksa) text content.
+     */
+    static Object resultValue(McpSchema.CallToolResult result, String format) {
+        if (TEXT_FORMAT.equals(format) || result.structuredContent() == null) {
+            return extractText(result);
+        }
+        return result.structuredContent();
+    }
+
+    /**
+     * Sayfali list tool'lari icin arguman map'i.
+     * Map.of null kabul etmedigi icin sadece verilen parametreler eklenir.
+     */
+    static Map<String, Object> pageArguments(Integer pageSize, String after) {
+        Map<String, Object> arguments = new LinkedHashMap<>();
+        if (pageSize != null) {
+            arguments.put("pageSize", pageSize);
+        }
+        if (after != null && !after.isBlank()) {
+            arguments.put("after", after);
+        }
+        return arguments;
+    }
+
     static String extractText(McpSchema.CallToolResult result) {
         StringBuilder sb = new StringBuilder();
         for (McpSchema.Content content : result.content()) {
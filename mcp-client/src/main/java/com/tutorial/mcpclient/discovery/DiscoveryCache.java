@@ -0,0 +1,186 @@
+package com.tutorial.mcpclient.discovery;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tutorial.mcpclient.pool.McpClientPool;
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Tool ve resource discovery cevaplarinin cache'i.
+ *
+ * /api/discovery/tools ve /api/discovery/resources cevaplari bir kere MCP Server'dan
+ * alinir, JSON byte'larina cevrilir ve oldugu gibi saklanir. Sonraki istekler
+ * ne MCP round trip'i ne de Map/JSON uretimi yapar, hazir byte'lar dondurulur.
+ *
+ * Cache sadece su durumlarda yenilenir:
+ *   - Server notifications/tools/list_changed veya resources/list_changed gonderirse
+ *   - mcp.discovery.ttl suresi dolarsa (notification kacirilirsa diye yedek)
+ */
+@Component
+public class DiscoveryCache {
+
+    private final McpClientPool clientPool;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    private final CachedBody tools = new CachedBody();
+    private final CachedBody resources = new CachedBody();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public DiscoveryCache(McpClientPool clientPool,
+                          ObjectMapper objectMapper,
+                          @Value("${mcp.discovery.ttl:10m}") Duration ttl) {
+        this.clientPool = clientPool;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        clientPool.onToolsChanged(this::invalidateTools);
+        clientPool.onResourcesChanged(this::invalidateResources);
+    }
+
+    public byte[] toolsJson() {
+        return get(tools, this::loadTools);
+    }
+
+    public byte[] resourcesJson() {
+        return get(resources, this::loadResources);
+    }
+
+    public void invalidateTools() {
+        invalidations.incrementAndGet();
+        tools.invalidate();
+    }
+
+    public void invalidateResources() {
+        invalidations.incrementAndGet();
+        resources.invalidate();
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("ttl", ttl.toString());
+        result.put("hits", hits.get());
+        result.put("loads", loads.get());
+        result.put("invalidations", invalidations.get());
+        return result;
+    }
+
+    // ── Yardimci Metodlar ──────────────────────────────────────
+
+    private byte[] get(CachedBody cached, Supplier<Map<String, Object>> loader) {
+        byte[] body = cached.current();
+        if (body != null) {
+            hits.incrementAndGet();
+            return body;
+        }
+        // Ayni anda gelen istekler icin tek bir MCP cagrisi yapilir.
+        // Bu kilidi sadece yukleyenler kullanir; invalidate hic beklemez.
+        cached.loadLock.lock();
+        try {
+            body = cached.current();
+            if (body != null) {
+                hits.incrementAndGet();
+                return body;
+            }
+            CachedBody.State before = cached.state();
+            loads.incrementAndGet();
+            body = toJson(loader.get());
+            cached.store(before, body, System.nanoTime() + ttl.toNanos());
+            return body;
+        } finally {
+            cached.loadLock.unlock();
+        }
+    }
+
+    private Map<String, Object> loadTools() {
+        McpSchema.ListToolsResult result = clientPool.execute(McpSyncClient::listTools);
+
+        List<Map<String, Object>> toolList = result.tools().stream()
+                .map(tool -> {
+                    Map<String, Object> toolInfo = new LinkedHashMap<>();
+                    toolInfo.put("name", tool.name());
+                    toolInfo.put("description", tool.description());
+                    return toolInfo;
+                })
+                .toList();
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("totalTools", toolList.size());
+        response.put("tools", toolList);
+        return response;
+    }
+
+    private Map<String, Object> loadResources() {
+        McpSchema.ListResourcesResult result = clientPool.execute(McpSyncClient::listResources);
+
+        List<Map<String, String>> resourceList = result.resources().stream()
+                .map(res -> {
+                    Map<String, String> resInfo = new LinkedHashMap<>();
+                    resInfo.put("uri", res.uri());
+                    resInfo.put("name", res.name());
+                    resInfo.put("description", res.description());
+                    return resInfo;
+                })
+                .toList();
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("totalResources", resourceList.size());
+        response.put("resources", resourceList);
+        return response;
+    }
+
+    private byte[] toJson(Map<String, Object> response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Hazir JSON govdesi ve gecerlilik suresi.
+     * Durum tek bir immutable State olarak tutulur. invalidate generation'i arttirip govdeyi siler;
+     * store ise sadece yuklemeye baslarken okunan State hala gecerliyse (CAS) yazar. Yukleme
+     * surerken gelen bir invalidation eski sonucun geri yazilmasini boylece kilitsiz engeller.
+     */
+    private static final class CachedBody {
+
+        private record State(byte[] body, long expiresAtNanos, long generation) {
+        }
+
+        private final AtomicReference<State> state = new AtomicReference<>(new State(null, 0, 0));
+        private final ReentrantLock loadLock = new ReentrantLock();
+
+        byte[] current() {
+            State current = state.get();
+            return current.body() != null && System.nanoTime() - current.expiresAtNanos() < 0 ? current.body() : null;
+        }
+
+        State state() {
+            return state.get();
+        }
+
+        void store(State loadedFrom, byte[] value, long expiresAt) {
+            state.compareAndSet(loadedFrom, new State(value, expiresAt, loadedFrom.generation()));
+        }
+
+        void invalidate() {
+            state.updateAndGet(current -> new State(null, 0, current.generation() + 1));
+        }
+    }
+}
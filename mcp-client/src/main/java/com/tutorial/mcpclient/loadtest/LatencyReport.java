@@ -0,0 +1,110 @@
+package com.tutorial.mcpclient.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Yuk testinde islem bazinda gecikme histogramlari (HdrHistogram, mikrosaniye, 3 anlamli basamak).
+ *
+ * Gecikme, cagrinin planlanan baslangic zamanindan olculur (bkz. LoadTestRunner):
+ * server yavaslayip istekler gec gonderildiginde bekleme suresi de gecikmeye yansir.
+ * Hata donen cagrilar (isError, exception) da histograma girer, ayrica sayilir.
+ */
+final class LatencyReport {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final Map<String, OperationStats> operations = new ConcurrentHashMap<>();
+    private final OperationStats total = new OperationStats();
+
+    void record(String operation, long latencyNanos, boolean error) {
+        long micros = Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        operations.computeIfAbsent(operation, key -> new OperationStats()).record(micros, error);
+        total.record(micros, error);
+    }
+
+    long totalCount() {
+        return total.histogram.getTotalCount();
+    }
+
+    /**
+     * Islem bazinda p50/p95/p99/max (ms), throughput ve hata orani tablosu.
+     */
+    String format(List<String> order, Duration measured, double targetRate) {
+        double seconds = measured.toNanos() / 1e9;
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-22s %9s %9s %7s %9s %9s %9s %9s%n",
+                "operation", "count", "req/s", "err%", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        for (String operation : order) {
+            OperationStats stats = operations.get(operation);
+            if (stats != null) {
+                appendRow(sb, operation, stats, seconds);
+            }
+        }
+        appendRow(sb, "TOTAL", total, seconds);
+        sb.append(String.format("target rate: %.1f req/s | achieved: %.1f req/s | measured: %ds%n",
+                targetRate, total.histogram.getTotalCount() / seconds, measured.toSeconds()));
+        return sb.toString();
+    }
+
+    /**
+     * Her islem icin <islem>.hgrm (percentile dagilimi, ms) dosyasi yazar; HdrHistogram plotter ile acilabilir.
+     */
+    void writeHistograms(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (Map.Entry<String, OperationStats> entry : operations.entrySet()) {
+            write(directory.resolve(fileName(entry.getKey())), entry.getValue().histogram);
+        }
+        write(directory.resolve("TOTAL.hgrm"), total.histogram);
+    }
+
+    // ── Yardimci Metodlar ──────────────────────────────────────
+
+    private static void appendRow(StringBuilder sb, String operation, OperationStats stats, double seconds) {
+        Histogram histogram = stats.histogram;
+        long count = histogram.getTotalCount();
+        sb.append(String.format("%-22s %9d %9.1f %7.2f %9.2f %9.2f %9.2f %9.2f%n",
+                operation, count, count / seconds,
+                count == 0 ? 0.0 : stats.errors.sum() * 100.0 / count,
+                histogram.getValueAtPercentile(50) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(95) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99) / MICROS_PER_MILLI,
+                histogram.getMaxValue() / MICROS_PER_MILLI));
+    }
+
+    private static void write(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+        }
+    }
+
+    /** "users://list" → "users-list.hgrm" */
+    private static String fileName(String operation) {
+        return operation.replace("://", "-").replaceAll("[^A-Za-z0-9_-]", "_") + ".hgrm";
+    }
+
+    private static final class OperationStats {
+
+        private final Histogram histogram = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+        private final LongAdder errors = new LongAdder();
+
+        void record(long micros, boolean error) {
+            histogram.recordValue(micros);
+            if (error) {
+                errors.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.tutorial.mcpclient.loadtest;
+
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.spec.McpSchema;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Yuk testinde cagrilan islemlerin agirlikli karisimi: server'daki 17 tool ve 3 resource.
+ *
+ * Agirliklar mcp.loadtest.mix.<islem> ile degistirilir, 0 verilen islem cagrilmaz.
+ * Argumanlar her cagri icin rastgele secilir:
+ *   - getUserById, getMessageById, getSegmentByCode → test basinda listelenen gercek id/code'lar (bkz. sample)
+ *   - createUser → her seferinde yeni bir e-posta; olusan kullanicilar kuyruga eklenir
+ *   - createUsers → BATCH_SIZE yeni kullanici; varsayilan agirligi 0 (mcp.loadtest.mix.createUsers ile acilir)
+ *   - deleteUser → sadece yuk testinin olusturdugu kullanicilari siler (kuyruk bossa createUser cagrilir)
+ *   - users://list, messages://list, segments://list → varsayilan agirligi 0 (opt-in, bkz. defaultWeights)
+ */
+final class LoadMix {
+
+    static final Map<String, Integer> DEFAULT_WEIGHTS = defaultWeights();
+
+    private static final int SAMPLE_SIZE = 500;
+    private static final int BATCH_SIZE = 100;
+    private static final List<String> DEPARTMENTS =
+            List.of("Engineering", "Sales", "Marketing", "Operations", "Support", "HR", "Finance", "Legal");
+    private static final List<String> MESSAGE_TYPES = List.of("PUSH", "EMAIL", "SMS", "WEB_PUSH", "IN_APP");
+    private static final List<String> SEND_STATUSES = List.of("DRAFT", "FINISHED", "STOPPED", "DELETED");
+    private static final List<String> SEGMENT_STATUSES = List.of("READY", "WAITING_CALCULATE", "WAITING_DELETED");
+    private static final List<String> PLATFORMS = List.of("ANDROID,IOS", "ANDROID", "IOS", "CHROME,FIREFOX");
+
+    private final String[] operations;
+    private final int[] cumulativeWeights;
+    private final List<String> userIds;
+    private final List<String> messageIds;
+    private final List<String> segmentCodes;
+    private final Queue<String> createdUserIds = new ConcurrentLinkedQueue<>();
+
+    private LoadMix(Map<String, Integer> weights, List<String> userIds, List<String> messageIds,
+                    List<String> segmentCodes) {
+        List<String> names = new ArrayList<>();
+        List<Integer> cumulative = new ArrayList<>();
+        int total = 0;
+        for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+            if (!DEFAULT_WEIGHTS.containsKey(entry.getKey())) {
+                throw new IllegalArgumentException("Unknown load test operation: " + entry.getKey());
+            }
+            if (entry.getValue() > 0) {
+                total += entry.getValue();
+                names.add(entry.getKey());
+                cumulative.add(total);
+            }
+        }
+        if (names.isEmpty()) {
+            throw new IllegalArgumentException("Load test mix has no operation with a positive weight");
+        }
+        this.operations = names.toArray(String[]::new);
+        this.cumulativeWeights = cumulative.stream().mapToInt(Integer::intValue).toArray();
+        this.userIds = userIds;
+        this.messageIds = messageIds;
+        this.segmentCodes = segmentCodes;
+    }
+
+    /**
+     * Varsayilan agirliklari overrides ile birlestirir ve id'leri server'dan orneklenmis bir karisim olusturur.
+     */
+    static LoadMix sample(McpSyncClient client, Map<String, Integer> overrides) {
+        Map<String, Integer> weights = new LinkedHashMap<>(DEFAULT_WEIGHTS);
+        weights.putAll(overrides);
+        return new LoadMix(weights,
+                sampleValues(client, "listAllUsers", "users", "id"),
+                sampleValues(client, "listMessages", "messages", "id"),
+                sampleValues(client, "listSegments", "segments", "code"));
+    }
+
+    List<String> operations() {
+        return List.of(operations);
+    }
+
+    String sampleSummary() {
+        return "users=" + userIds.size() + ", messages=" + messageIds.size() + ", segments=" + segmentCodes.size();
+    }
+
+    /**
+     * Agirliklara gore siradaki islem.
+     */
+    String next() {
+        int point = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int index = 0;
+        while (cumulativeWeights[index] <= point) {
+            index++;
+        }
+        String operation = operations[index];
+        return "deleteUser".equals(operation) && createdUserIds.isEmpty() ? "createUser" : operation;
+    }
+
+    /**
+     * Islemi calistirir; tool isError dondurduyse false.
+     * Resource'lar "users://list" gibi URI'leri ile, tool'lar adlari ile cagrilir.
+     */
+    boolean call(McpSyncClient client, String operation) {
+        if (operation.contains("://")) {
+            client.readResource(new McpSchema.ReadResourceRequest(operation));
+            return true;
+        }
+        McpSchema.CallToolResult result = client.callTool(
+                new McpSchema.CallToolRequest(operation, arguments(operation)));
+        if (Boolean.TRUE.equals(result.isError())) {
+            return false;
+        }
+        if ("createUser".equals(operation)) {
+            String id = nestedValue(result.structuredContent(), "user", "id");
+            if (id != null) {
+                createdUserIds.add(id);
+            }
+        } else if ("createUsers".equals(operation)) {
+            createdUserIds.addAll(createdIds(result.structuredContent()));
+        }
+        return true;
+    }
+
+    /**
+     * Test sonunda silinmemis kalan, yuk testinin olusturdugu kullanicilar.
+     */
+    List<String> drainCreatedUsers() {
+        List<String> ids = new ArrayList<>();
+        for (String id = createdUserIds.poll(); id != null; id = createdUserIds.poll()) {
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    // ── Yardimci Metodlar ──────────────────────────────────────
+
+    private Map<String, Object> arguments(String operation) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (operation) {
+            case "getUserById" -> Map.of("userId", pick(userIds, random));
+            case "createUser" -> Map.of(
+                    "name", "Load Test",
+                    "email", "loadtest-" + UUID.randomUUID() + "@example.com",
+                    "department", pick(DEPARTMENTS, random));
+            case "createUsers" -> {
+                List<Map<String, Object>> users = new ArrayList<>(BATCH_SIZE);
+                for (int i = 0; i < BATCH_SIZE; i++) {
+                    users.add(Map.of(
+                            "name", "Load Test",
+                            "email", "loadtest-" + UUID.randomUUID() + "@example.com",
+                            "department", pick(DEPARTMENTS, random)));
+                }
+                yield Map.of("users", users);
+            }
+            case "deleteUser" -> {
+                String id = createdUserIds.poll();
+                yield Map.of("userId", id != null ? id : "000000000000000000000000");
+            }
+            case "findUsersByDepartment" -> Map.of("department", pick(DEPARTMENTS, random));
+            case "getMessageById" -> Map.of("messageId", pick(messageIds, random));
+            case "findMessagesByType" -> Map.of("msgType", pick(MESSAGE_TYPES, random));
+            case "findMessagesByStatus" -> Map.of("sendStatus", pick(SEND_STATUSES, random));
+            case "createMessage" -> Map.of(
+                    "msgType", pick(MESSAGE_TYPES, random),
+                    "title", "Load Test",
+                    "messageContent", "Load test message",
+                    "platforms", pick(PLATFORMS, random));
+            case "getSegmentByCode" -> Map.of("code", pick(segmentCodes, random));
+            case "findSegmentsByStatus" -> Map.of("segmentStatus", pick(SEGMENT_STATUSES, random));
+            default -> Map.of();
+        };
+    }
+
+    private static String pick(List<String> values, ThreadLocalRandom random) {
+        return values.isEmpty() ? "missing" : values.get(random.nextInt(values.size()));
+    }
+
+    /**
+     * Sayfali list tool'unun ilk sayfasindan (structuredContent) alan degerlerini toplar.
+     */
+    private static List<String> sampleValues(McpSyncClient client, String tool, String listField, String valueField) {
+        McpSchema.CallToolResult result = client.callTool(
+                new McpSchema.CallToolRequest(tool, Map.of("pageSize", SAMPLE_SIZE)));
+        List<String> values = new ArrayList<>();
+        if (result.structuredContent() instanceof Map<?, ?> content
+                && content.get(listField) instanceof List<?> items) {
+            for (Object item : items) {
+                if (item instanceof Map<?, ?> row && row.get(valueField) instanceof String value) {
+                    values.add(value);
+                }
+            }
+        }
+        return values;
+    }
+
+    private static String nestedValue(Object content, String objectField, String valueField) {
+        if (content instanceof Map<?, ?> map && map.get(objectField) instanceof Map<?, ?> nested
+                && nested.get(valueField) instanceof String value) {
+            return value;
+        }
+        return null;
+    }
+
+    /**
+     * createUsers sonucundaki CREATED kullanicilarin id'leri.
+     */
+    private static List<String> createdIds(Object content) {
+        List<String> ids = new ArrayList<>();
+        if (content instanceof Map<?, ?> map && map.get("results") instanceof List<?> results) {
+            for (Object item : results) {
+                if (item instanceof Map<?, ?> outcome && "CREATED".equals(outcome.get("status"))
+                        && outcome.get("userId") instanceof String id) {
+                    ids.add(id);
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Okuma agirlikli bir karisim; yazan tool'lar (create/delete) dusuk agirlikta.
+     */
+    private static Map<String, Integer> defaultWeights() {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        weights.put("listAllUsers", 8);
+        weights.put("getUserById", 15);
+        weights.put("createUser", 2);
+        weights.put("createUsers", 0);
+        weights.put("deleteUser", 2);
+        weights.put("findUsersByDepartment", 5);
+        weights.put("listMessages", 8);
+        weights.put("getMessageById", 12);
+        weights.put("findMessagesByType", 5);
+        weights.put("findMessagesByStatus", 5);
+        weights.put("createMessage", 1);
+        weights.put("getMessageStats", 4);
+        weights.put("listSegments", 6);
+        weights.put("getSegmentByCode", 10);
+        weights.put("findSegmentsByStatus", 4);
+        weights.put("findActiveSegments", 4);
+        weights.put("getSegmentStats", 4);
+        // Resource'lar tum collection'i tek cevapta dondurur (server'da tek String olarak uretilir).
+        // loadtest profilindeki veriyle (1M user, 5M mesaj) her okuma GB'larca bellek ister ve
+        // rapor tool'lari degil bu hatayi olcer; bu yuzden opt-in: mcp.loadtest.mix."[messages://list]": 1
+        weights.put("users://list", 0);
+        weights.put("messages://list", 0);
+        weights.put("segments://list", 0);
+        return Collections.unmodifiableMap(weights);
+    }
+}
@@ -0,0 +1,171 @@
+package com.tutorial.mcpclient.loadtest;
+
+import com.tutorial.mcpclient.pool.McpClientPool;
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Uctan uca yuk testi: N ayri MCP session'i uzerinden sabit hizda tool/resource cagrisi.
+ * Sadece "loadtest" profilinde calisir:
+ *   ./gradlew :mcp-client:bootRun --args='--spring.profiles.active=loadtest'
+ *
+ * Open-loop: cagrilar cevaplari beklemeden mcp.loadtest.rate hizinda planlanir
+ * (i. cagri → baslangic + i / rate). Gecikme planlanan zamandan olculur; server yavaslayinca
+ * gec gonderilen cagrilarin bekleme suresi de sonuca girer (coordinated omission duzeltmesi).
+ *   - mcp.loadtest.sessions     → havuz disinda acilan session sayisi, cagrilar sirayla dagitilir
+ *   - mcp.loadtest.rate         → saniyedeki hedef cagri sayisi
+ *   - mcp.loadtest.warmup       → olculmeyen isinma suresi
+ *   - mcp.loadtest.duration     → olculen sure
+ *   - mcp.loadtest.max-in-flight → ayni anda bekleyen en fazla cagri (client'in kendi bellegi icin sinir)
+ *   - mcp.loadtest.mix.<islem>  → islem agirliklari (bkz. LoadMix)
+ *   - mcp.loadtest.output-dir   → bos degilse islem bazinda .hgrm dosyalari buraya yazilir
+ *
+ * Sonuc tablosu (p50/p95/p99/max, req/s, hata orani) log'a yazilir (bkz. LatencyReport).
+ */
+@Component
+@Profile("loadtest")
+public class LoadTestRunner implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestRunner.class);
+
+    private final McpClientPool clientPool;
+    private final int sessionCount;
+    private final double rate;
+    private final Duration warmup;
+    private final Duration duration;
+    private final int maxInFlight;
+    private final String outputDir;
+    private final Map<String, Integer> mix;
+
+    public LoadTestRunner(McpClientPool clientPool,
+                          Environment environment,
+                          @Value("${mcp.loadtest.sessions:8}") int sessionCount,
+                          @Value("${mcp.loadtest.rate:200}") double rate,
+                          @Value("${mcp.loadtest.warmup:10s}") Duration warmup,
+                          @Value("${mcp.loadtest.duration:60s}") Duration duration,
+                          @Value("${mcp.loadtest.max-in-flight:512}") int maxInFlight,
+                          @Value("${mcp.loadtest.output-dir:}") String outputDir) {
+        this.clientPool = clientPool;
+        this.sessionCount = Math.max(1, sessionCount);
+        this.rate = rate;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.outputDir = outputDir;
+        this.mix = Binder.get(environment)
+                .bind("mcp.loadtest.mix", Bindable.mapOf(String.class, Integer.class))
+                .orElse(Map.of());
+    }
+
+    @Override
+    public void run(String... args) throws IOException {
+        if (rate <= 0 || duration.isZero() || duration.isNegative()) {
+            throw new IllegalStateException("mcp.loadtest.rate and mcp.loadtest.duration must be positive");
+        }
+        List<McpSyncClient> sessions = new ArrayList<>();
+        try {
+            for (int i = 0; i < sessionCount; i++) {
+                sessions.add(clientPool.openDedicated());
+            }
+            LoadMix loadMix = LoadMix.sample(sessions.get(0), mix);
+            log.info("Yuk testi basliyor: {} session, {} req/s, isinma {}s, olcum {}s, ornek id'ler: {}",
+                    sessionCount, rate, warmup.toSeconds(), duration.toSeconds(), loadMix.sampleSummary());
+
+            LatencyReport report = drive(sessions, loadMix);
+
+            log.info("Yuk testi tamamlandi:\n{}", report.format(loadMix.operations(), duration, rate));
+            if (!outputDir.isBlank()) {
+                report.writeHistograms(Path.of(outputDir));
+                log.info("Histogramlar yazildi: {}", Path.of(outputDir).toAbsolutePath());
+            }
+            cleanUp(sessions.get(0), loadMix);
+        } finally {
+            sessions.forEach(McpSyncClient::close);
+        }
+    }
+
+    /**
+     * Cagrilari planlanan zamanlarinda virtual thread'lerde baslatir. max-in-flight doluysa
+     * planlayici bekler; bekleme, planlanan zamandan olculdugu icin sonraki cagrilarin gecikmesine yansir.
+     */
+    private LatencyReport drive(List<McpSyncClient> sessions, LoadMix loadMix) {
+        LatencyReport report = new LatencyReport();
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        double intervalNanos = 1e9 / rate;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long intended = start + (long) (i * intervalNanos);
+                if (intended >= end) {
+                    break;
+                }
+                parkUntil(intended);
+                inFlight.acquireUninterruptibly();
+
+                String operation = loadMix.next();
+                McpSyncClient client = sessions.get((int) (i % sessions.size()));
+                executor.execute(() -> {
+                    boolean error = true;
+                    try {
+                        error = !loadMix.call(client, operation);
+                    } catch (RuntimeException e) {
+                        log.debug("Yuk testi cagrisi basarisiz ({}): {}", operation, e.getMessage());
+                    } finally {
+                        if (intended >= measureFrom) {
+                            report.record(operation, System.nanoTime() - intended, error);
+                        }
+                        inFlight.release();
+                    }
+                });
+            }
+        } // close() kalan cagrilarin bitmesini bekler
+        return report;
+    }
+
+    private static void parkUntil(long deadlineNanos) {
+        for (long remaining = deadlineNanos - System.nanoTime(); remaining > 0;
+             remaining = deadlineNanos - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    /**
+     * Yuk testinin olusturup silmedigi kullanicilari siler (olcume dahil degil).
+     */
+    private void cleanUp(McpSyncClient client, LoadMix loadMix) {
+        List<String> created = loadMix.drainCreatedUsers();
+        for (String userId : created) {
+            try {
+                client.callTool(new McpSchema.CallToolRequest("deleteUser", Map.of("userId", userId)));
+            } catch (RuntimeException e) {
+                log.warn("Yuk testi kullanicisi silinemedi ({}): {}", userId, e.getMessage());
+            }
+        }
+        if (!created.isEmpty()) {
+            log.info("Yuk testinin olusturdugu {} kullanici silindi", created.size());
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package com.tutorial.mcpclient.pool;
+
+import io.modelcontextprotocol.client.McpClient;
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.client.transport.HttpClientStreamableHttpTransport;
+import io.modelcontextprotocol.spec.McpError;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpTransportException;
+import io.modelcontextprotocol.spec.McpTransportSessionNotFoundException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * "user-server" baglantisi icin MCP session havuzu.
+ *
+ * Tek bir McpSyncClient yerine birden fazla session acilir ve her istek
+ * o an en az mesgul (in-flight cagrisi en az) session'a verilir:
+ *   - mcp.pool.min-size → startup'ta acilan ve her zaman acik tutulan session sayisi
+ *   - mcp.pool.max-size → tum session'lar mesgulken en fazla kac session'a kadar buyunecegi
+ *   - mcp.pool.health-check-interval → bosta duran session'lara ping atilma araligi
+ *   - mcp.pool.idle-timeout → min-size ustundeki session'larin bosta kalinca kapanma suresi
+ *
+ * Transport seviyesinde hata veren (baglanti kopmus, session server'da dusmus) session
+ * havuzdan cikarilir ve yerine yenisi acilir; eski session uzerinde calisan diger cagrilar
+ * bitince kapatilir (bkz. PooledSession.retire). Server'in dondurdugu McpError'lar
+ * (ornek: bilinmeyen tool) ve timeout'lar (yavas tool) session'in bozuk oldugunu gostermez,
+ * session korunur.
+ *
+ * Kullanim:
+ *   clientPool.execute(client -> client.callTool(request))
+ */
+@Component
+public class McpClientPool {
+
+    private static final Logger log = LoggerFactory.getLogger(McpClientPool.class);
+
+    private final List<PooledSession> sessions = new CopyOnWriteArrayList<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+    private final AtomicLong replaced = new AtomicLong();
+    private final Object growLock = new Object();
+    private final List<Runnable> toolsChangedListeners = new CopyOnWriteArrayList<>();
+    private final List<Runnable> resourcesChangedListeners = new CopyOnWriteArrayList<>();
+
+    private final String url;
+    private final String clientName;
+    private final String clientVersion;
+    private final Duration requestTimeout;
+    private final int minSize;
+    private final int maxSize;
+    private final Duration idleTimeout;
+
+    public McpClientPool(@Value("${spring.ai.mcp.client.streamable-http.connections.user-server.url}") String url,
+                         @Value("${spring.ai.mcp.client.name:tutorial-mcp-client}") String clientName,
+                         @Value("${spring.ai.mcp.client.version:1.0.0}") String clientVersion,
+                         @Value("${spring.ai.mcp.client.request-timeout:30s}") Duration requestTimeout,
+                         @Value("${mcp.pool.min-size:2}") int minSize,
+                         @Value("${mcp.pool.max-size:8}") int maxSize,
+                         @Value("${mcp.pool.idle-timeout:5m}") Duration idleTimeout) {
+        this.url = url;
+        this.clientName = clientName;
+        this.clientVersion = clientVersion;
+        this.requestTimeout = requestTimeout;
+        this.minSize = Math.max(1, minSize);
+        this.maxSize = Math.max(this.minSize, maxSize);
+        this.idleTimeout = idleTimeout;
+
+        // Server kapaliysa uygulama yine acilir; session'lar ilk istekte / health check'te acilir
+        for (int i = 0; i < this.minSize; i++) {
+            try {
+                sessions.add(open());
+            } catch (RuntimeException e) {
+                log.warn("MCP session acilamadi ({}): {}", url, e.getMessage());
+                break;
+            }
+        }
+    }
+
+    /**
+     * En az mesgul session'i alir, islemi calistirir ve session'i havuza geri verir.
+     */
+    public <T> T execute(Function<McpSyncClient, T> operation) {
+        PooledSession session = checkout();
+        try {
+            return operation.apply(session.client());
+        } catch (RuntimeException e) {
+            if (isConnectionFailure(e)) {
+                replace(session, e);
+            }
+            throw e;
+        } finally {
+            session.release();
+        }
+    }
+
+    /**
+     * Havuz disinda, ayni server'a yeni bir session acar (ornek: yuk testi, bkz. LoadTestRunner).
+     * Session havuzun sayaclarina ve health check'ine girmez; kapatmak cagirana aittir.
+     */
+    public McpSyncClient openDedicated() {
+        return connect(McpClient.sync(HttpClientStreamableHttpTransport.builder(url).build()));
+    }
+
+    /**
+     * Bosta duran session'lara ping atar, cevap vermeyenleri yeniler,
+     * min-size ustundeki uzun sure bosta kalmis session'lari kapatir.
+     */
+    @Scheduled(fixedDelayString = "${mcp.pool.health-check-interval:30s}")
+    public void healthCheck() {
+        long now = System.nanoTime();
+        for (PooledSession session : sessions) {
+            if (session.inFlight() > 0) {
+                continue;
+            }
+            if (sessions.size() > minSize && now - session.lastUsedNanos() > idleTimeout.toNanos()) {
+                // Bu arada bir cagriya verildiyse o cagri bitince kapanir
+                if (sessions.remove(session)) {
+                    session.retire();
+                }
+                continue;
+            }
+            try {
+                session.client().ping();
+            } catch (McpError e) {
+                // Server cevap verdi; session saglikli
+            } catch (RuntimeException e) {
+                replace(session, e);
+            }
+        }
+        synchronized (growLock) {
+            while (sessions.size() < minSize) {
+                try {
+                    sessions.add(open());
+                } catch (RuntimeException e) {
+                    log.warn("MCP session acilamadi ({}): {}", url, e.getMessage());
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Server notifications/tools/list_changed gonderdiginde calisir (herhangi bir session'dan).
+     */
+    public void onToolsChanged(Runnable listener) {
+        toolsChangedListeners.add(listener);
+    }
+
+    /**
+     * Server notifications/resources/list_changed gonderdiginde calisir (herhangi bir session'dan).
+     */
+    public void onResourcesChanged(Runnable listener) {
+        resourcesChangedListeners.add(listener);
+    }
+
+    public Map<String, Object> stats() {
+        List<Map<String, Object>> details = new ArrayList<>();
+        for (PooledSession session : sessions) {
+            Map<String, Object> detail = new LinkedHashMap<>();
+            detail.put("id", session.id());
+            detail.put("inFlight", session.inFlight());
+            detail.put("completed", session.completed());
+            details.add(detail);
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("minSize", minSize);
+        result.put("maxSize", maxSize);
+        result.put("size", sessions.size());
+        result.put("replaced", replaced.get());
+        result.put("sessions", details);
+        return result;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        for (PooledSession session : sessions) {
+            session.closeNow();
+        }
+        sessions.clear();
+    }
+
+    // ── Yardimci Metodlar ──────────────────────────────────────
+
+    /**
+     * Bos bir session varsa onu, yoksa (max-size'a ulasilmadiysa) yeni bir session,
+     * o da olmuyorsa en az mesgul session'i verir.
+     * Secilen session o sirada havuzdan cikarildiysa (retire) tekrar secilir.
+     */
+    private PooledSession checkout() {
+        while (true) {
+            PooledSession session = select();
+            if (session.tryAcquire()) {
+                return session;
+            }
+        }
+    }
+
+    private PooledSession select() {
+        PooledSession least = leastBusy();
+        if (least == null || (least.inFlight() > 0 && sessions.size() < maxSize)) {
+            synchronized (growLock) {
+                least = leastBusy();
+                if (least == null || (least.inFlight() > 0 && sessions.size() < maxSize)) {
+                    try {
+                        PooledSession opened = open();
+                        sessions.add(opened);
+                        least = opened;
+                    } catch (RuntimeException e) {
+                        if (least == null) {
+                            throw e;
+                        }
+                        log.warn("Havuz buyutulemedi, mevcut session kullaniliyor: {}", e.getMessage());
+                    }
+                }
+            }
+        }
+        return least;
+    }
+
+    private PooledSession leastBusy() {
+        return sessions.stream()
+                .filter(session -> !session.isRetired() && !session.isClosing())
+                .min(Comparator.comparingInt(PooledSession::inFlight))
+                .orElse(null);
+    }
+
+    /**
+     * Session'i havuzdan cikarir (uzerindeki cagrilar bitince kapanir) ve gerekirse yenisini acar.
+     */
+    private void replace(PooledSession session, RuntimeException cause) {
+        if (!sessions.remove(session)) {
+            return; // baska bir thread zaten yeniledi
+        }
+        session.retire();
+        replaced.incrementAndGet();
+        log.warn("MCP session #{} bozuldu, yenileniyor: {}", session.id(), cause.getMessage());
+        synchronized (growLock) {
+            if (sessions.size() < minSize) {
+                try {
+                    sessions.add(open());
+                } catch (RuntimeException e) {
+                    log.warn("Yeni MCP session acilamadi, health check tekrar deneyecek: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private PooledSession open() {
+        McpSyncClient client = connect(McpClient.sync(HttpClientStreamableHttpTransport.builder(url).build())
+                .toolsChangeConsumer(tools -> toolsChangedListeners.forEach(Runnable::run))
+                .resourcesChangeConsumer(resources -> resourcesChangedListeners.forEach(Runnable::run)));
+        PooledSession session = new PooledSession(nextId.incrementAndGet(), client);
+        log.info("MCP session #{} acildi ({})", session.id(), url);
+        return session;
+    }
+
+    private McpSyncClient connect(McpClient.SyncSpec spec) {
+        McpSyncClient client = spec
+                .clientInfo(new McpSchema.Implementation(clientName, clientVersion))
+                .requestTimeout(requestTimeout)
+                .build();
+        try {
+            client.initialize();
+        } catch (RuntimeException e) {
+            client.close();
+            throw e;
+        }
+        return client;
+    }
+
+    /**
+     * Baglanti/transport hatasi mi? Cause zincirinde IO hatasi ya da transport exception'i aranir.
+     * McpError (server cevap verdi) ve timeout (server yavas) session'i bozuk saydirmaz.
+     */
+    static boolean isConnectionFailure(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof McpError || t instanceof TimeoutException) {
+                return false;
+            }
+            if (t instanceof McpTransportException
+                    || t instanceof McpTransportSessionNotFoundException
+                    || t instanceof IOException
+                    || t instanceof UncheckedIOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
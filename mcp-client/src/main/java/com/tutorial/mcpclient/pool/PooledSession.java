@@ -0,0 +1,129 @@
+package com.tutorial.mcpclient.pool;
+
+import io.modelcontextprotocol.client.McpSyncClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Havuzdaki tek bir MCP session'i ve kullanim sayaclari.
+ *
+ * inFlight ayni zamanda session'in durumudur: CLOSING (negatif) → session kapatildi.
+ * Havuzdan cikan session once retire() ile isaretlenir: artik yeni cagri alamaz, ama uzerinde
+ * calisan cagrilar bitene kadar acik kalir. inFlight 0'a dustugunde (ya da zaten 0'sa) session
+ * CAS ile (0 → CLOSING) tek bir kez kapatilir; calisan bir cagrinin altindan kapatilmaz.
+ */
+final class PooledSession {
+
+    private static final Logger log = LoggerFactory.getLogger(PooledSession.class);
+
+    private static final int CLOSING = Integer.MIN_VALUE;
+
+    private final int id;
+    private final McpSyncClient client;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong completed = new AtomicLong();
+    private volatile long lastUsedNanos = System.nanoTime();
+    private volatile boolean retired;
+
+    PooledSession(int id, McpSyncClient client) {
+        this.id = id;
+        this.client = client;
+    }
+
+    int id() {
+        return id;
+    }
+
+    McpSyncClient client() {
+        return client;
+    }
+
+    int inFlight() {
+        return Math.max(0, inFlight.get());
+    }
+
+    long completed() {
+        return completed.get();
+    }
+
+    long lastUsedNanos() {
+        return lastUsedNanos;
+    }
+
+    boolean isRetired() {
+        return retired;
+    }
+
+    /**
+     * Session'i havuzdan cikmis olarak isaretler: yeni cagri almaz, bostaysa hemen,
+     * degilse son cagri release edilince kapanir.
+     */
+    void retire() {
+        retired = true;
+        closeIfIdle();
+    }
+
+    boolean isClosing() {
+        return inFlight.get() < 0;
+    }
+
+    /**
+     * Session emekliye ayrilmadiysa ve kapatilmiyorsa bir cagri icin ayirir; false → baska session secilmeli.
+     */
+    boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current < 0 || retired) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                if (retired) {
+                    // CAS ile retire() arasinda kaldi; cagri bu session'da calismaz
+                    leave();
+                    return false;
+                }
+                return true;
+            }
+        }
+    }
+
+    void release() {
+        completed.incrementAndGet();
+        lastUsedNanos = System.nanoTime();
+        leave();
+    }
+
+    /**
+     * Havuz kapanirken kullanilir: cagri beklemeden kapatir.
+     */
+    void closeNow() {
+        retired = true;
+        inFlight.set(CLOSING);
+        closeClient();
+    }
+
+    private void leave() {
+        if (inFlight.decrementAndGet() == 0 && retired) {
+            closeIfIdle();
+        }
+    }
+
+    private void closeIfIdle() {
+        if (inFlight.compareAndSet(0, CLOSING)) {
+            closeClient();
+        }
+    }
+
+    private void closeClient() {
+        try {
+            client.closeGracefully();
+        } catch (RuntimeException e) {
+            log.debug("MCP session #{} duzgun kapanmadi: {}", id, e.getMessage());
+            client.close();
+        }
+        log.info("MCP session #{} kapatildi", id);
+    }
+}
@@ -1,5 +1,6 @@
 package com.tutorial.mcpclient.runner;
 
+import com.tutorial.mcpclient.pool.McpClientPool;
 import io.modelcontextprotocol.client.McpSyncClient;
 import io.modelcontextprotocol.spec.McpSchema;
 import org.slf4j.Logger;
@@ -8,7 +9,6 @@ import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -18,7 +18,7 @@ import java.util.Map;
  * MCP Server ile iletisimi gosterir.
  *
  * Gosterilen MCP islemleri:
- * 1. Tool Discovery      - Server'daki mevcut 16 tool'u listeleme
+ * 1. Tool Discovery      - Server'daki mevcut 17 tool'u listeleme
  * 2. Resource Discovery   - Server'daki 3 resource'u listeleme
  * 3-5. User Tool'lari    - listAllUsers, createUser, findUsersByDepartment
  * 6. User Resource        - users://list okuma
@@ -33,10 +33,10 @@ public class McpDemoRunner implements CommandLineRunner {
 
     private static final Logger log = LoggerFactory.getLogger(McpDemoRunner.class);
 
-    private final List<McpSyncClient> mcpClients;
+    private final McpClientPool clientPool;
 
-    public McpDemoRunner(List<McpSyncClient> mcpClients) {
-        this.mcpClients = mcpClients;
+    public McpDemoRunner(McpClientPool clientPool) {
+        this.clientPool = clientPool;
     }
 
     @Override
@@ -45,163 +45,11 @@ public class McpDemoRunner implements CommandLineRunner {
         log.info("   MCP CLIENT DEMO BASLIYOR");
         log.info("========================================");
 
-        for (McpSyncClient client : mcpClients) {
-
-            // ============================================================
-            // ADIM 1: Tool Discovery
-            // MCP Server'daki tum tool'lari kesfediyoruz.
-            // Bu, MCP'nin en temel ozelliklerinden biri:
-            // Client, Server'a "hangi tool'larin var?" diye sorar.
-            // ============================================================
-            log.info("");
-            log.info(">> ADIM 1: Tool Discovery - Mevcut tool'lari listeliyoruz...");
-            McpSchema.ListToolsResult toolsResult = client.listTools();
-            for (McpSchema.Tool tool : toolsResult.tools()) {
-                log.info("   Tool bulundu: {} - {}", tool.name(), tool.description());
-            }
-
-            // ============================================================
-            // ADIM 2: Resource Discovery
-            // MCP Server'daki resource'lari kesfediyoruz.
-            // Resource'lar read-only veri kaynaklaridir.
-            // Tool'lardan farki: Resource pasif bilgi sunar,
-            // Tool'lar ise aksiyon alir.
-            // ============================================================
-            log.info("");
-            log.info(">> ADIM 2: Resource Discovery - Mevcut resource'lari listeliyoruz...");
-            McpSchema.ListResourcesResult resourcesResult = client.listResources();
-            for (McpSchema.Resource resource : resourcesResult.resources()) {
-                log.info("   Resource bulundu: {} - {}", resource.uri(), resource.description());
-            }
-
-            // ============================================================
-            // ADIM 3: Tool Calling - listAllUsers
-            // Ilk tool cagrimiz! Server'daki "listAllUsers" tool'unu
-            // cagiriyoruz. Parametre gerektirmiyor.
-            // ============================================================
-            log.info("");
-            log.info(">> ADIM 3: Tool Calling - 'listAllUsers' cagiriliyor...");
-            McpSchema.CallToolResult result1 = client.callTool(
-                    new McpSchema.CallToolRequest("listAllUsers", Map.of())
-            );
-            logToolResult(result1);
-
-            // ============================================================
-            // ADIM 4: Tool Calling - createUser
-            // MongoDB'ye yeni bir kullanici ekliyoruz.
-            // NOT: getUserById demo'su kaldirildi cunku MongoDB ObjectId'leri
-            // dinamik olusturulur (ornek: "507f1f77bcf86cd799439011")
-            // ve onceden bilinemez. Gercek uygulamada listAllUsers sonucundan
-            // ID alinip getUserById cagirilabilir.
-            // ============================================================
-            log.info("");
-            log.info(">> ADIM 4: Tool Calling - 'createUser' ile yeni kullanici olusturuluyor...");
-            McpSchema.CallToolResult result3 = client.callTool(
-                    new McpSchema.CallToolRequest("createUser", Map.of(
-                            "name", "Deniz Test",
-                            "email", "deniz@example.com",
-                            "department", "QA"
-                    ))
-            );
-            logToolResult(result3);
-
-            // ============================================================
-            // ADIM 5: Tool Calling - findUsersByDepartment
-            // Departmana gore arama yapiyoruz.
-            // ============================================================
-            log.info("");
-            log.info(">> ADIM 5: Tool Calling - 'findUsersByDepartment' Engineering ile cagiriliyor...");
-            McpSchema.CallToolResult result4 = client.callTool(
-                    new McpSchema.CallToolRequest("findUsersByDepartment",
-                            Map.of("department", "Engineering"))
-            );
-            logToolResult(result4);
-
-            // ============================================================
-            // ADIM 6: Resource Reading - users://list
-            // Tum kullanicilar JSON olarak doner (yeni eklenen dahil).
-            // ============================================================
-            log.info("");
-            log.info(">> ADIM 6: Resource Reading - 'users://list' okunuyor...");
-            readResource(client, "users://list");
-
-            // ============================================================
-            // ADIM 7: Tool Calling - listMessages
-            // Tum mesajlari/kampanyalari listeliyoruz.
-            // ============================================================
-            log.info("");
-            log.info(">> ADIM 7: Tool Calling - 'listMessages' cagiriliyor...");
-            logToolResult(client.callTool(
-                    new McpSchema.CallToolRequest("listMessages", Map.of())
-            ));
-
-            // ============================================================
-            // ADIM 8: Tool Calling - findMessagesByType
-            // Sadece PUSH tipindeki mesajlari filtreliyoruz.
-            // ============================================================
-            log.info("");
-            log.info(">> ADIM 8: Tool Calling - 'findMessagesByType' PUSH ile cagiriliyor...");
-            logToolResult(client.callTool(
-                    new McpSchema.CallToolRequest("findMessagesByType",
-                            Map.of("msgType", "PUSH"))
-            ));
-
-            // ============================================================
-            // ADIM 9: Tool Calling - getMessageStats
-            // Mesaj istatistiklerini aliyoruz: tipe ve statusye gore dagilim.
-            // ============================================================
-            log.info("");
-            log.info(">> ADIM 9: Tool Calling - 'getMessageStats' cagiriliyor...");
-            logToolResult(client.callTool(
-                    new McpSchema.CallToolRequest("getMessageStats", Map.of())
-            ));
-
-            // ============================================================
-            // ADIM 10: Resource Reading - messages://list
-            // Tum mesajlar JSON olarak doner.
-            // ============================================================
-            log.info("");
-            log.info(">> ADIM 10: Resource Reading - 'messages://list' okunuyor...");
-            readResource(client, "messages://list");
-
-            // ============================================================
-            // ADIM 11: Tool Calling - listSegments
-            // Tum segmentleri listeliyoruz.
-            // ============================================================
-            log.info("");
-            log.info(">> ADIM 11: Tool Calling - 'listSegments' cagiriliyor...");
-            logToolResult(client.callTool(
-                    new McpSchema.CallToolRequest("listSegments", Map.of())
-            ));
-
-            // ============================================================
-            // ADIM 12: Tool Calling - findActiveSegments
-            // Sadece aktif segmentleri getiriyoruz (DELETED olanlari haric).
-            // ============================================================
-            log.info("");
-            log.info(">> ADIM 12: Tool Calling - 'findActiveSegments' cagiriliyor...");
-            logToolResult(client.callTool(
-                    new McpSchema.CallToolRequest("findActiveSegments", Map.of())
-            ));
-
-            // ============================================================
-            // ADIM 13: Tool Calling - getSegmentStats
-            // Segment istatistiklerini aliyoruz.
-            // ============================================================
-            log.info("");
-            log.info(">> ADIM 13: Tool Calling - 'getSegmentStats' cagiriliyor...");
-            logToolResult(client.callTool(
-                    new McpSchema.CallToolRequest("getSegmentStats", Map.of())
-            ));
-
-            // ============================================================
-            // ADIM 14: Resource Reading - segments://list
-            // Tum segmentler JSON olarak doner.
-            // ============================================================
-            log.info("");
-            log.info(">> ADIM 14: Resource Reading - 'segments://list' okunuyor...");
-            readResource(client, "segments://list");
-        }
+        // Demo boyunca havuzdan tek bir session kullanilir
+        clientPool.execute(client -> {
+            runDemo(client);
+            return null;
+        });
 
         log.info("");
         log.info("========================================");
@@ -209,7 +57,180 @@ public class McpDemoRunner implements CommandLineRunner {
         log.info("========================================");
     }
 
+    private void runDemo(McpSyncClient client) {
+        // ============================================================
+        // ADIM 1: Tool Discovery
+        // MCP Server'daki tum tool'lari kesfediyoruz.
+        // Bu, MCP'nin en temel ozelliklerinden biri:
+        // Client, Server'a "hangi tool'larin var?" diye sorar.
+        // ============================================================
+        log.info("");
+        log.info(">> ADIM 1: Tool Discovery - Mevcut tool'lari listeliyoruz...");
+        McpSchema.ListToolsResult toolsResult = client.listTools();
+        for (McpSchema.Tool tool : toolsResult.tools()) {
+            log.info("   Tool bulundu: {} - {}", tool.name(), tool.description());
+        }
+
+        // ============================================================
+        // ADIM 2: Resource Discovery
+        // MCP Server'daki resource'lari kesfediyoruz.
+        // Resource'lar read-only veri kaynaklaridir.
+        // Tool'lardan farki: Resource pasif bilgi sunar,
+        // Tool'lar ise aksiyon alir.
+        // ============================================================
+        log.info("");
+        log.info(">> ADIM 2: Resource Discovery - Mevcut resource'lari listeliyoruz...");
+        McpSchema.ListResourcesResult resourcesResult = client.listResources();
+        for (McpSchema.Resource resource : resourcesResult.resources()) {
+            log.info("   Resource bulundu: {} - {}", resource.uri(), resource.description());
+        }
+
+        // ============================================================
+        // ADIM 3: Tool Calling - listAllUsers
+        // Ilk tool cagrimiz! Server'daki "listAllUsers" tool'unu
+        // cagiriyoruz. Parametre gerektirmiyor.
+        // Sonuc structuredContent olarak gelir (users + nextCursor);
+        // sonraki adimlar _meta ile insan okunur metni de ister (bkz. textRequest).
+        // ============================================================
+        log.info("");
+        log.info(">> ADIM 3: Tool Calling - 'listAllUsers' cagiriliyor...");
+        McpSchema.CallToolResult result1 = client.callTool(
+                new McpSchema.CallToolRequest("listAllUsers", Map.of())
+        );
+        logToolResult(result1);
+
+        // ============================================================
+        // ADIM 4: Tool Calling - createUser
+        // MongoDB'ye yeni bir kullanici ekliyoruz.
+        // NOT: getUserById demo'su kaldirildi cunku MongoDB ObjectId'leri
+        // dinamik olusturulur (ornek: "507f1f77bcf86cd799439011")
+        // ve onceden bilinemez. Gercek uygulamada listAllUsers sonucundan
+        // ID alinip getUserById cagirilabilir.
+        // ============================================================
+        log.info("");
+        log.info(">> ADIM 4: Tool Calling - 'createUser' ile yeni kullanici olusturuluyor...");
+        McpSchema.CallToolResult result3 = client.callTool(
+                textRequest("createUser", Map.of(
+                        "name", "Deniz Test",
+                        "email", "deniz@example.com",
+                        "department", "QA"
+                ))
+        );
+        logToolResult(result3);
+
+        // ============================================================
+        // ADIM 5: Tool Calling - findUsersByDepartment
+        // Departmana gore arama yapiyoruz.
+        // ============================================================
+        log.info("");
+        log.info(">> ADIM 5: Tool Calling - 'findUsersByDepartment' Engineering ile cagiriliyor...");
+        McpSchema.CallToolResult result4 = client.callTool(
+                textRequest("findUsersByDepartment",
+                        Map.of("department", "Engineering"))
+        );
+        logToolResult(result4);
+
+        // ============================================================
+        // ADIM 6: Resource Reading - users://list
+        // Tum kullanicilar JSON olarak doner (yeni eklenen dahil).
+        // ============================================================
+        log.info("");
+        log.info(">> ADIM 6: Resource Reading - 'users://list' okunuyor...");
+        readResource(client, "users://list");
+
+        // ============================================================
+        // ADIM 7: Tool Calling - listMessages
+        // Tum mesajlari/kampanyalari listeliyoruz.
+        // ============================================================
+        log.info("");
+        log.info(">> ADIM 7: Tool Calling - 'listMessages' cagiriliyor...");
+        logToolResult(client.callTool(
+                textRequest("listMessages", Map.of())
+        ));
+
+        // ============================================================
+        // ADIM 8: Tool Calling - findMessagesByType
+        // Sadece PUSH tipindeki mesajlari filtreliyoruz.
+        // ============================================================
+        log.info("");
+        log.info(">> ADIM 8: Tool Calling - 'findMessagesByType' PUSH ile cagiriliyor...");
+        logToolResult(client.callTool(
+                textRequest("findMessagesByType",
+                        Map.of("msgType", "PUSH"))
+        ));
+
+        // ============================================================
+        // ADIM 9: Tool Calling - getMessageStats
+        // Mesaj istatistiklerini aliyoruz: tipe ve statusye gore dagilim.
+        // ============================================================
+        log.info("");
+        log.info(">> ADIM 9: Tool Calling - 'getMessageStats' cagiriliyor...");
+        logToolResult(client.callTool(
+                textRequest("getMessageStats", Map.of())
+        ));
+
+        // ============================================================
+        // ADIM 10: Resource Reading - messages://list
+        // Tum mesajlar JSON olarak doner.
+        // ============================================================
+        log.info("");
+        log.info(">> ADIM 10: Resource Reading - 'messages://list' okunuyor...");
+        readResource(client, "messages://list");
+
+        // ============================================================
+        // ADIM 11: Tool Calling - listSegments
+        // Tum segmentleri listeliyoruz.
+        // ============================================================
+        log.info("");
+        log.info(">> ADIM 11: Tool Calling - 'listSegments' cagiriliyor...");
+        logToolResult(client.callTool(
+                textRequest("listSegments", Map.of())
+        ));
+
+        // ============================================================
+        // ADIM 12: Tool Calling - findActiveSegments
+        // Sadece aktif segmentleri getiriyoruz (DELETED olanlari haric).
+        // ============================================================
+        log.info("");
+        log.info(">> ADIM 12: Tool Calling - 'findActiveSegments' cagiriliyor...");
+        logToolResult(client.callTool(
+                textRequest("findActiveSegments", Map.of())
+        ));
+
+        // ============================================================
+        // ADIM 13: Tool Calling - getSegmentStats
+        // Segment istatistiklerini aliyoruz.
+        // ============================================================
+        log.info("");
+        log.info(">> ADIM 13: Tool Calling - 'getSegmentStats' cagiriliyor...");
+        logToolResult(client.callTool(
+                textRequest("getSegmentStats", Map.of())
+        ));
+
+        // ============================================================
+        // ADIM 14: Resource Reading - segments://list
+        // Tum segmentler JSON olarak doner.
+        // ============================================================
+        log.info("");
+        log.info(">> ADIM 14: Resource Reading - 'segments://list' okunuyor...");
+        readResource(client, "segments://list");
+    }
+
+    /**
+     * _meta: {"format": "text"} → server structuredContent'in yaninda padded metin ciktisini da uretir.
+     */
+    private static McpSchema.CallToolRequest textRequest(String toolName, Map<String, Object> arguments) {
+        return McpSchema.CallToolRequest.builder()
+                .name(toolName)
+                .arguments(arguments)
+                .meta(Map.of("format", "text"))
+                .build();
+    }
+
     private void logToolResult(McpSchema.CallToolResult result) {
+        if (result.structuredContent() != null) {
+            log.info("   Yapisal sonuc: {}", result.structuredContent());
+        }
         for (McpSchema.Content content : result.content()) {
             if (content instanceof McpSchema.TextContent textContent) {
                 log.info("   Sonuc: {}", textContent.text());
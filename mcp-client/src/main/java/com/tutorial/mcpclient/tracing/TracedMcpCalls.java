@@ -0,0 +1,68 @@
+package com.tutorial.mcpclient.tracing;
+
+import com.tutorial.mcpclient.pool.McpClientPool;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.transport.SenderContext;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Controller'larin MCP cagrilari: her cagri bir span (observation) icinde McpClientPool uzerinden gider
+ * ve trace context'i istegin _meta'sinda server'a tasinir.
+ *
+ *   GET /api/tools/users → [http get /api/tools/users] → [tools/call listAllUsers] → server: [tools/call listAllUsers] → [UserRepository.findAllBy]
+ *
+ * _meta'ya W3C alanlari yazilir ("traceparent", varsa "tracestate"); server ayni trace'i devam ettirir
+ * (bkz. server'daki StructuredToolSpecifications). Client span'i ile server span'i arasindaki fark
+ * session havuzu + streamable HTTP transport suresidir.
+ *
+ * Span'ler log'a yazilir (bkz. TracingConfig). Observation ayrica mcp.client.requests timer'ini uretir.
+ */
+@Component
+public class TracedMcpCalls {
+
+    private static final String OBSERVATION = "mcp.client.requests";
+
+    private final McpClientPool clientPool;
+    private final ObservationRegistry observationRegistry;
+
+    public TracedMcpCalls(McpClientPool clientPool, ObservationRegistry observationRegistry) {
+        this.clientPool = clientPool;
+        this.observationRegistry = observationRegistry;
+    }
+
+    public McpSchema.CallToolResult callTool(McpSchema.CallToolRequest request) {
+        Map<String, Object> meta = request.meta() != null ? new HashMap<>(request.meta()) : new HashMap<>();
+        return observation("tools/call", request.name(), meta).observe(() -> clientPool.execute(client ->
+                client.callTool(McpSchema.CallToolRequest.builder()
+                        .name(request.name())
+                        .arguments(request.arguments())
+                        .meta(meta)
+                        .build())));
+    }
+
+    public McpSchema.ReadResourceResult readResource(String uri) {
+        Map<String, Object> meta = new HashMap<>();
+        return observation("resources/read", uri, meta).observe(() -> clientPool.execute(client ->
+                client.readResource(new McpSchema.ReadResourceRequest(uri, meta))));
+    }
+
+    // ── Yardimci Metodlar ──────────────────────────────────────
+
+    /**
+     * Observation baslarken tracing handler'i trace context'ini meta'ya yazar (SenderContext carrier'i).
+     */
+    private Observation observation(String method, String target, Map<String, Object> meta) {
+        SenderContext<Map<String, Object>> context = new SenderContext<>((carrier, key, value) -> carrier.put(key, value));
+        context.setCarrier(meta);
+        context.setRemoteServiceName("mcp-server");
+        return Observation.createNotStarted(OBSERVATION, () -> context, observationRegistry)
+                .contextualName(method + " " + target)
+                .lowCardinalityKeyValue("mcp.method", method)
+                .lowCardinalityKeyValue("mcp.target", target);
+    }
+}
@@ -0,0 +1,22 @@
+package com.tutorial.mcpclient.tracing;
+
+import io.opentelemetry.exporter.logging.LoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Span'ler harici bir collector olmadan log'a yazilir (LoggingSpanExporter, her span tek satir).
+ * Ayni traceId'li satirlar client → server → repository kritik yolunu verir;
+ * uygulama log satirlarinda da [traceId-spanId] bulunur.
+ */
+@Configuration
+@ConditionalOnProperty(name = "mcp.tracing.log-exporter.enabled", havingValue = "true", matchIfMissing = true)
+public class TracingConfig {
+
+    @Bean
+    public SpanExporter loggingSpanExporter() {
+        return LoggingSpanExporter.create();
+    }
+}
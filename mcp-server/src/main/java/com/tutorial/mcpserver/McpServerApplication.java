@@ -2,6 +2,7 @@ package com.tutorial.mcpserver;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * MCP Server uygulamasi.
@@ -11,10 +12,12 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * 2. DataSeeder ile dummy kullanicilar yuklenir (collection bos ise)
  * 3. @Tool annotation'li methodlar MCP tool olarak kaydedilir
  * 4. Streamable HTTP transport endpoint'i aktif olur (/mcp)
+ * 5. Istatistik sayaclari Mongo'dan yuklenir ve periyodik olarak esitlenir (@EnableScheduling)
  *
  * MCP Client bu sunucuya http://localhost:8080 uzerinden baglanabilir.
  */
 @SpringBootApplication
+@EnableScheduling
 public class McpServerApplication {
 
     public static void main(String[] args) {
@@ -24,6 +24,7 @@ import java.util.List;
  *   - segments  → 8 segment (Netmera benzeri)
  *
  * Her collection icin: eger zaten veri varsa tekrar yuklemez.
+ * Milyonlarca kayitlik yuk testi verisi icin bkz. SyntheticDataGenerator ("loadtest" profili).
  */
 @Component
 @Order(1)
@@ -0,0 +1,236 @@
+package com.tutorial.mcpserver.config;
+
+import com.tutorial.mcpserver.repository.MessageRepository;
+import com.tutorial.mcpserver.repository.ReactiveMessageRepository;
+import com.tutorial.mcpserver.repository.ReactiveSegmentRepository;
+import com.tutorial.mcpserver.repository.ReactiveUserRepository;
+import com.tutorial.mcpserver.repository.SegmentRepository;
+import com.tutorial.mcpserver.repository.UserRepository;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.repository.query.ConvertingParameterAccessor;
+import org.springframework.data.mongodb.repository.query.MongoParametersParameterAccessor;
+import org.springframework.data.mongodb.repository.query.MongoQueryMethod;
+import org.springframework.data.mongodb.repository.query.PartTreeMongoQuery;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.core.support.AbstractRepositoryMetadata;
+import org.springframework.data.repository.query.ValueExpressionDelegate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Startup'ta repository sorgularinin index kullandigini dogrular.
+ *
+ * Her derived query, Spring Data'nin calisma aninda kullandigi yoldan uretilir:
+ * method → MongoQueryMethod → PartTreeMongoQuery.createQuery → QueryMapper (id → _id, String → ObjectId).
+ * Ornek argumanlarla olusan filtre/sort ile explain calistirilir; elle yazilmis bir kopya yoktur,
+ * method adi degisirse kontrol edilen sorgu da degisir. Winning plan'da COLLSCAN varsa
+ * (ya da method derived query degilse) mcp.index-check.mode ayarina gore:
+ *   - WARN → log'a uyari basar (varsayilan)
+ *   - FAIL → uygulamanin acilmasini engeller
+ *   - OFF  → kontrol yapilmaz
+ *
+ * Reactive repository'ler (ASYNC mod) ayni PartTree'den ayni sorguyu uretir; her reactive method'un
+ * blocking repository'de ayni ad ve parametrelerle bir karsiligi olmasi istenir, explain o karsilik uzerinden yapilir.
+ *
+ * Boylece yeni bir tool, production'a sessizce full collection scan ekleyemez.
+ * Index'lerin kendisi model siniflarindaki @Indexed / @CompoundIndex tanimlaridir.
+ */
+@Component
+@Order(3)
+public class IndexVerifier implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(IndexVerifier.class);
+
+    public enum Mode { OFF, WARN, FAIL }
+
+    /**
+     * Bilerek tum collection'i okuyan method'lar (resource export'lari).
+     */
+    private static final Set<String> FULL_SCAN_BY_DESIGN = Set.of("streamAllBy");
+
+    /**
+     * Reactive repository → sorgulari explain edilen blocking karsiligi.
+     */
+    private static final Map<Class<?>, Class<?>> REPOSITORIES = Map.of(
+            UserRepository.class, UserRepository.class,
+            MessageRepository.class, MessageRepository.class,
+            SegmentRepository.class, SegmentRepository.class,
+            ReactiveUserRepository.class, UserRepository.class,
+            ReactiveMessageRepository.class, MessageRepository.class,
+            ReactiveSegmentRepository.class, SegmentRepository.class);
+
+    /**
+     * Servislerin gonderdigi sayfa istegi: _id'ye gore artan (bkz. KeysetPage.request).
+     */
+    private static final Pageable SAMPLE_PAGE = PageRequest.of(0, 51, Sort.by(Sort.Direction.ASC, "id"));
+
+    private final MongoTemplate mongoTemplate;
+    private final Mode mode;
+
+    public IndexVerifier(MongoTemplate mongoTemplate,
+                         @Value("${mcp.index-check.mode:WARN}") Mode mode) {
+        this.mongoTemplate = mongoTemplate;
+        this.mode = mode;
+    }
+
+    @Override
+    public void run(String... args) {
+        if (mode == Mode.OFF) {
+            return;
+        }
+        List<String> problems = new ArrayList<>();
+        int verified = 0;
+
+        for (Map.Entry<Class<?>, Class<?>> entry : REPOSITORIES.entrySet()) {
+            Class<?> repository = entry.getKey();
+            Class<?> blocking = entry.getValue();
+            for (Method method : repository.getDeclaredMethods()) {
+                if (method.isDefault() || Modifier.isStatic(method.getModifiers())
+                        || FULL_SCAN_BY_DESIGN.contains(method.getName())) {
+                    continue;
+                }
+                String name = repository.getSimpleName() + "." + method.getName();
+                if (repository != blocking) {
+                    if (ReflectionUtils.findMethod(blocking, method.getName(), method.getParameterTypes()) == null) {
+                        problems.add(name + " → no matching " + blocking.getSimpleName() + " method to verify against");
+                    }
+                    continue;
+                }
+                String problem = explain(repository, method);
+                if (problem != null) {
+                    problems.add(name + " → " + problem);
+                }
+                verified++;
+            }
+        }
+
+        if (problems.isEmpty()) {
+            log.info("Index kontrolu: {} repository sorgusu index kullaniyor.", verified);
+            return;
+        }
+        String report = String.join("\n  ", problems);
+        if (mode == Mode.FAIL) {
+            throw new IllegalStateException("Index kontrolu basarisiz:\n  " + report);
+        }
+        log.warn("Index kontrolu: {} sorun bulundu:\n  {}", problems.size(), report);
+    }
+
+    // ── Yardimci Metodlar ──────────────────────────────────────
+
+    /**
+     * Method'un derived query'sini uretir ve explain eder.
+     *
+     * @return sorun varsa aciklamasi, yoksa null
+     */
+    private String explain(Class<?> repository, Method method) {
+        MongoConverter converter = mongoTemplate.getConverter();
+        MongoQueryMethod queryMethod = new MongoQueryMethod(method, AbstractRepositoryMetadata.getMetadata(repository),
+                new SpelAwareProxyProjectionFactory(), converter.getMappingContext());
+        if (queryMethod.hasAnnotatedQuery() || queryMethod.hasAnnotatedAggregation()) {
+            return "annotated query is not verified, add a derived query or remove it";
+        }
+        Object[] arguments = new Object[method.getParameterCount()];
+        for (int i = 0; i < arguments.length; i++) {
+            arguments[i] = sampleArgument(method.getParameterTypes()[i]);
+            if (arguments[i] == null) {
+                return "no sample value for parameter type " + method.getParameterTypes()[i].getSimpleName();
+            }
+        }
+
+        Query query = new DerivedQuery(queryMethod, mongoTemplate).create(converter, arguments);
+        MongoPersistentEntity<?> entity = converter.getMappingContext()
+                .getRequiredPersistentEntity(queryMethod.getEntityInformation().getJavaType());
+        QueryMapper mapper = new QueryMapper(converter);
+        Document filter = mapper.getMappedObject(query.getQueryObject(), entity);
+        Document sort = mapper.getMappedSort(query.getSortObject(), entity);
+
+        String collection = queryMethod.getEntityInformation().getCollectionName();
+        Document explain = mongoTemplate.getCollection(collection)
+                .find(filter)
+                .sort(sort)
+                .explain();
+        Document queryPlanner = explain.get("queryPlanner", Document.class);
+        Object winningPlan = queryPlanner != null ? queryPlanner.get("winningPlan") : null;
+        return containsStage(winningPlan, "COLLSCAN")
+                ? "COLLSCAN on " + collection + " " + filter.toJson() + " sort " + sort.toJson()
+                : null;
+    }
+
+    /**
+     * Planner sadece sorgunun sekline bakar, degerler onemsiz. String'ler gecerli bir ObjectId'dir;
+     * boylece id alanlarinda da uygulamanin gonderdigi tipte (ObjectId) deger olusur.
+     */
+    private static Object sampleArgument(Class<?> type) {
+        if (Pageable.class.isAssignableFrom(type)) {
+            return SAMPLE_PAGE;
+        }
+        if (type == String.class) {
+            return new ObjectId().toHexString();
+        }
+        if (Collection.class.isAssignableFrom(type)) {
+            return List.of(new ObjectId().toHexString(), new ObjectId().toHexString());
+        }
+        return null;
+    }
+
+    /**
+     * Plan agacinda (inputStage / inputStages / queryPlan) verilen stage'i arar.
+     */
+    private static boolean containsStage(Object plan, String stage) {
+        if (plan instanceof Document doc) {
+            if (stage.equals(doc.get("stage"))) {
+                return true;
+            }
+            for (Object child : doc.values()) {
+                if (containsStage(child, stage)) {
+                    return true;
+                }
+            }
+        } else if (plan instanceof List<?> list) {
+            for (Object child : list) {
+                if (containsStage(child, stage)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * PartTreeMongoQuery.createQuery protected; repository proxy'sinin kullandigi sorgu uretimini disariya acar.
+     */
+    private static final class DerivedQuery extends PartTreeMongoQuery {
+
+        DerivedQuery(MongoQueryMethod method, MongoOperations operations) {
+            super(method, operations, ValueExpressionDelegate.create());
+        }
+
+        Query create(MongoConverter converter, Object[] arguments) {
+            return createQuery(new ConvertingParameterAccessor(converter,
+                    new MongoParametersParameterAccessor(getQueryMethod(), arguments)));
+        }
+    }
+}
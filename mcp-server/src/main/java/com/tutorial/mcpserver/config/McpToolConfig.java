@@ -2,32 +2,97 @@ package com.tutorial.mcpserver.config;
 
 import com.tutorial.mcpserver.service.MessageService;
 import com.tutorial.mcpserver.service.SegmentService;
+import com.tutorial.mcpserver.service.ToolOutput;
 import com.tutorial.mcpserver.service.UserService;
-import org.springframework.ai.tool.ToolCallbackProvider;
-import org.springframework.ai.tool.method.MethodToolCallbackProvider;
+import com.tutorial.mcpserver.tool.StructuredToolCallback;
+import com.tutorial.mcpserver.tool.StructuredToolSpecifications;
+import com.tutorial.mcpserver.tool.ToolBulkheads;
+import com.tutorial.mcpserver.tool.ToolMetrics;
+import com.tutorial.mcpserver.tool.ToolResultCache;
+import io.micrometer.observation.ObservationRegistry;
+import io.modelcontextprotocol.server.McpServerFeatures;
+import org.springframework.ai.mcp.customizer.McpSyncServerCustomizer;
+import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.support.ToolUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * MCP Tool kayit konfigurasyonu.
  *
- * MethodToolCallbackProvider, @Tool annotation'i ile isaretlenmis
- * tum methodlari tarar ve MCP protokolune tool olarak kaydeder.
+ * Servislerdeki @Tool annotation'i ile isaretlenmis tum methodlar taranir ve
+ * MCP protokolune tool olarak kaydedilir. Her method MethodToolCallback ile cagrilir
+ * (bkz. StructuredToolCallback.of); method'un dondurdugu ToolOutput record'u zincir boyunca tasinir.
  *
- * Toplam 16 tool kaydedilir:
- *   - UserService    → 5 tool (listAllUsers, getUserById, createUser, deleteUser, findUsersByDepartment)
+ * Toplam 17 tool kaydedilir:
+ *   - UserService    → 6 tool (listAllUsers, getUserById, createUser, createUsers, deleteUser, findUsersByDepartment)
  *   - MessageService → 6 tool (listMessages, getMessageById, findMessagesByType, findMessagesByStatus, createMessage, getMessageStats)
  *   - SegmentService → 5 tool (listSegments, getSegmentByCode, findSegmentsByStatus, findActiveSegments, getSegmentStats)
+ *
+ * Uretilen her ToolCallback, MCP'ye verilmeden once decorator'larla sarilir (distan ice):
+ *   - ToolMetrics     → tool bazinda sure, hata ve sonuc boyutu metrikleri (GET /actuator/prometheus)
+ *   - ToolResultCache → read-only tool sonuclarini cache'ler, yazan tool'lar cache'i temizler
+ *   - ToolBulkheads   → tool bazinda es zamanli cagri siniri, tool istegi alan (virtual) thread'de calisir
+ *
+ * Cache disarida oldugu icin cache'ten donen sonuclar bulkhead kotasi harcamaz.
+ *
+ * Decorate edilmis callback'ler MCP'ye StructuredToolSpecifications ile verilir: her tool
+ * method'unun donus tipi (ToolOutput record'u) outputSchema olur, sonuc structuredContent olarak doner.
+ * Her cagri, client'tan _meta ile gelen trace'i devam ettiren bir span icinde calisir.
+ *
+ * Sadece SYNC modda kullanilir. ASYNC modda ayni tool'lari Reactive*Service siniflarindaki
+ * @McpTool method'lari sunar (annotation scanner tarafindan kaydedilir).
  */
 @Configuration
 public class McpToolConfig {
 
+    /**
+     * Sync tool handler'lari Reactor'un boundedElastic havuzuna devredilmez, istegi alan thread'de calisir.
+     * spring.threads.virtual.enabled ile bu thread virtual'dir: tool Mongo'yu beklerken platform thread tutulmaz
+     * ve cagri basina tek thread kullanilir. Trace context'i de ayni thread'de kalir.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.ai.mcp.server", name = "type", havingValue = "SYNC", matchIfMissing = true)
+    public McpSyncServerCustomizer immediateToolExecution() {
+        return serverBuilder -> serverBuilder.immediateExecution(true);
+    }
+
     @Bean
-    public ToolCallbackProvider allTools(UserService userService,
-                                         MessageService messageService,
-                                         SegmentService segmentService) {
-        return MethodToolCallbackProvider.builder()
-                .toolObjects(userService, messageService, segmentService)
-                .build();
+    @ConditionalOnProperty(prefix = "spring.ai.mcp.server", name = "type", havingValue = "SYNC", matchIfMissing = true)
+    public List<McpServerFeatures.SyncToolSpecification> allTools(UserService userService,
+                                                                  MessageService messageService,
+                                                                  SegmentService segmentService,
+                                                                  ToolResultCache toolResultCache,
+                                                                  ToolBulkheads toolBulkheads,
+                                                                  ToolMetrics toolMetrics,
+                                                                  ObservationRegistry observationRegistry) {
+        List<McpServerFeatures.SyncToolSpecification> specifications = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        for (Object toolObject : List.of(userService, messageService, segmentService)) {
+            for (Method method : ClassUtils.getUserClass(toolObject).getDeclaredMethods()) {
+                if (!method.isAnnotationPresent(Tool.class)) {
+                    continue;
+                }
+                if (!ToolOutput.class.isAssignableFrom(method.getReturnType())) {
+                    throw new IllegalStateException("Tool method " + method + " must return a ToolOutput record");
+                }
+                if (!names.add(ToolUtils.getToolName(method))) {
+                    throw new IllegalStateException("Duplicate tool name: " + ToolUtils.getToolName(method));
+                }
+                StructuredToolCallback callback = toolMetrics.decorate(toolResultCache.decorate(
+                        toolBulkheads.decorate(StructuredToolCallback.of(toolObject, method))));
+                specifications.add(StructuredToolSpecifications.of(callback,
+                        method.getReturnType().asSubclass(ToolOutput.class), observationRegistry));
+            }
+        }
+        return specifications;
     }
 }
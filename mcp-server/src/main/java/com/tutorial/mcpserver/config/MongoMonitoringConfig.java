@@ -0,0 +1,49 @@
+package com.tutorial.mcpserver.config;
+
+import com.tutorial.mcpserver.mongo.MongoCommandMetrics;
+import com.tutorial.mcpserver.mongo.MongoPoolMetrics;
+import com.tutorial.mcpserver.mongo.RepositoryMethodTracker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * MongoClient izleme: komut metrikleri, yavas sorgu log'u ve connection pool bekleme sureleri.
+ *
+ * Customizer hem blocking hem reactive MongoClient'a uygulanir. Komutlar, onlari gonderen
+ * repository method'u ile etiketlenir (bkz. RepositoryMethodTracker); sadece blocking
+ * repository'ler etiketlenir, reactive komutlar "none" olur. Ayni interceptor repository
+ * cagrilari icin span de acar (tool span'inin altinda).
+ *
+ * Metrikler: GET /actuator/prometheus → mcp.mongo.command.*, mcp.mongo.pool.checkout
+ */
+@Configuration
+public class MongoMonitoringConfig {
+
+    /**
+     * static: BeanPostProcessor'lar repository factory bean'lerinden once olusturulmali.
+     */
+    @Bean
+    public static BeanPostProcessor repositoryMethodTracker(ObjectProvider<ObservationRegistry> observationRegistry) {
+        return RepositoryMethodTracker.installer(observationRegistry);
+    }
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoMonitoringCustomizer(
+            MeterRegistry meterRegistry,
+            @Value("${mcp.mongo.slow-query.threshold:100ms}") Duration slowQueryThreshold,
+            @Value("${mcp.mongo.metrics.measure-reply-size:false}") boolean measureReplySize) {
+        MongoCommandMetrics commandMetrics = new MongoCommandMetrics(meterRegistry, slowQueryThreshold, measureReplySize);
+        MongoPoolMetrics poolMetrics = new MongoPoolMetrics(meterRegistry);
+        return builder -> builder
+                .addCommandListener(commandMetrics)
+                .applyToConnectionPoolSettings(pool -> pool.addConnectionPoolListener(poolMetrics));
+    }
+}
@@ -1,6 +1,12 @@
 package com.tutorial.mcpserver.config;
 
 import com.tutorial.mcpserver.repository.UserRepository;
+import com.tutorial.mcpserver.security.BoundedPasswordEncoder;
+import com.tutorial.mcpserver.security.CachingJwtDecoder;
+import com.tutorial.mcpserver.security.JwtCache;
+import com.tutorial.mcpserver.security.ResourceServerJwtDecoder;
+import com.tutorial.mcpserver.security.UserDetailsCache;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springaicommunity.mcp.security.authorizationserver.config.McpAuthorizationServerConfigurer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -13,9 +19,8 @@ import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.security.oauth2.jwt.JwtDecoder;
-import org.springframework.security.oauth2.jwt.JwtDecoders;
+import org.springframework.security.oauth2.server.authorization.InMemoryOAuth2AuthorizationService;
+import org.springframework.security.oauth2.server.authorization.OAuth2AuthorizationService;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -27,12 +32,27 @@ import java.util.List;
 @EnableWebSecurity
 public class SecurityConfig {
 
-    @Value("${spring.security.oauth2.resourceserver.jwt.issuer-uri}")
-    private String issuerUri;
+    /**
+     * BCrypt hash'leri request thread'lerinde degil, sinirli ayri bir havuzda hesaplanir
+     * (bkz. BoundedPasswordEncoder). Hash sureleri: GET /internal/stats/password-hashing
+     * ve /actuator/prometheus (mcp.security.password.hash*)
+     */
+    @Bean(destroyMethod = "shutdown")
+    public BoundedPasswordEncoder passwordEncoder(
+            @Value("${mcp.security.password-hashing.strength:10}") int strength,
+            @Value("${mcp.security.password-hashing.threads:2}") int threads,
+            @Value("${mcp.security.password-hashing.queue-capacity:64}") int queueCapacity,
+            MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), threads, queueCapacity, meterRegistry);
+    }
 
+    /**
+     * Authorization Server'in token kayitlari. Bean olarak tanimlanir ki Authorization Server ile
+     * TokenRevocationListener ayni kayitlari gorsun (revoke edilen token'in gercekten gecersiz kilindigi buradan okunur).
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(10);
+    public OAuth2AuthorizationService authorizationService() {
+        return new InMemoryOAuth2AuthorizationService();
     }
 
     /**
@@ -60,11 +80,15 @@ public class SecurityConfig {
 
     /**
      * Filter chain 2: MCP Resource Server endpoints (JWT-protected /mcp/**)
-     * Lazy JwtDecoder — issuer'a ilk request geldiginde baglanir, startup'ta degil.
+     * Token'lar varsayilan olarak ayni sunucudaki Authorization Server'in key set'i ile
+     * bellekte dogrulanir (bkz. ResourceServerJwtDecoder, mcp.security.jwt.decoder).
+     * Dogrulanan token'lar JwtCache'te tutulur, imza kontrolu token basina bir kez yapilir.
      */
     @Bean
     @Order(2)
-    public SecurityFilterChain resourceServerSecurityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain resourceServerSecurityFilterChain(HttpSecurity http,
+                                                                 ResourceServerJwtDecoder jwtDecoder,
+                                                                 JwtCache jwtCache) throws Exception {
         http
                 .securityMatcher("/mcp", "/mcp/**")
                 .authorizeHttpRequests(auth -> auth
@@ -72,7 +96,7 @@ public class SecurityConfig {
                         .anyRequest().authenticated()
                 )
                 .oauth2ResourceServer(oauth2 -> oauth2
-                        .jwt(jwt -> jwt.decoder(lazyJwtDecoder()))
+                        .jwt(jwt -> jwt.decoder(new CachingJwtDecoder(jwtDecoder, jwtCache)))
                 )
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .csrf(csrf -> csrf.disable());
@@ -81,39 +105,45 @@ public class SecurityConfig {
     }
 
     /**
-     * Lazy JwtDecoder: startup'ta issuer'a baglanmaz.
-     * Ilk JWT dogrulama istegi geldiginde JWKS endpoint'ini kesfeder ve cache'ler.
-     * Ayni sunucuda Auth Server + Resource Server oldugu icin bu gerekli.
+     * Filter chain 3: Actuator ve /internal/stats endpoints
+     * Sadece /actuator/health anonim; /actuator/prometheus gibi digerleri (tool adlari, repository
+     * method'lari, pool / bulkhead durumu) ve /internal/stats/** (cache hit oranlari, login / BCrypt
+     * kuyruk baskisi) /mcp ile ayni bearer token'i ister.
+     * Prometheus scrape ayari: authorization: { type: Bearer, credentials: <access token> }
      */
-    private JwtDecoder lazyJwtDecoder() {
-        return new JwtDecoder() {
-            private volatile JwtDecoder delegate;
+    @Bean
+    @Order(3)
+    public SecurityFilterChain managementSecurityFilterChain(HttpSecurity http,
+                                                             ResourceServerJwtDecoder jwtDecoder,
+                                                             JwtCache jwtCache) throws Exception {
+        http
+                .securityMatcher("/actuator/**", "/internal/**")
+                .authorizeHttpRequests(auth -> auth
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        .anyRequest().authenticated()
+                )
+                .oauth2ResourceServer(oauth2 -> oauth2
+                        .jwt(jwt -> jwt.decoder(new CachingJwtDecoder(jwtDecoder, jwtCache)))
+                )
+                .csrf(csrf -> csrf.disable());
 
-            @Override
-            public org.springframework.security.oauth2.jwt.Jwt decode(String token) {
-                if (delegate == null) {
-                    synchronized (this) {
-                        if (delegate == null) {
-                            delegate = JwtDecoders.fromIssuerLocation(issuerUri);
-                        }
-                    }
-                }
-                return delegate.decode(token);
-            }
-        };
+        return http.build();
     }
 
+    /**
+     * Login'de kullanici Mongo'dan okunur, sonuc kisa sure UserDetailsCache'te tutulur.
+     */
     @Bean
-    public UserDetailsService userDetailsService(UserRepository userRepository) {
-        return username -> {
-            var user = userRepository.findByEmail(username)
-                    .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
+    public UserDetailsService userDetailsService(UserRepository userRepository, UserDetailsCache userDetailsCache) {
+        return username -> userDetailsCache.get(username, key -> {
+            var user = userRepository.findByEmail(key)
+                    .orElseThrow(() -> new UsernameNotFoundException("User not found: " + key));
             return User.builder()
                     .username(user.getEmail())
                     .password(user.getPassword())
                     .roles("USER")
                     .build();
-        };
+        });
     }
 
     @Bean
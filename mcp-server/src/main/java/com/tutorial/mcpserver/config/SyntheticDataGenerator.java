@@ -0,0 +1,310 @@
+package com.tutorial.mcpserver.config;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.InsertManyOptions;
+import com.tutorial.mcpserver.model.Message;
+import com.tutorial.mcpserver.model.Segment;
+import com.tutorial.mcpserver.model.User;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+/**
+ * Yuk testi icin buyuk hacimli sentetik veri ureticisi ("loadtest" profili).
+ *
+ *   ./gradlew :mcp-server:bootRun --args='--spring.profiles.active=loadtest'
+ *
+ * DataSeeder'in 5 kullanici / 10 mesaj / 8 segment'i performans sorunlarini gostermez.
+ * Bu sinif milyonlarca gercekci document uretir:
+ *   - mcp.loadtest.users / messages / segments → hedef document sayilari
+ *   - mcp.loadtest.batch-size   → tek insertMany'deki document sayisi
+ *   - mcp.loadtest.parallelism  → ayni anda uretilen / yazilan batch sayisi
+ *   - mcp.loadtest.seed         → ayni seed ile ayni veri uretilir
+ *
+ * Hiz icin:
+ *   - Entity yerine ham BSON Document uretilir (mapping/converter maliyeti yok)
+ *   - Batch'ler paralel uretilir ve unordered insertMany ile yazilir
+ *   - Tum kullanicilar ayni, bir kez hesaplanmis BCrypt hash'ini kullanir ("password123")
+ *
+ * Dagilimlar gercek sisteme benzer sekilde carpiktir (cogu mesaj PUSH ve FINISHED,
+ * segment userCount'u Pareto dagilimli ...). Collection hedef sayiya zaten ulasmissa atlanir;
+ * eksikse sadece eksik kadar uretilir.
+ *
+ * Mongo event'leri tetiklenmez; istatistik sayaclari ApplicationReadyEvent'te
+ * (tum runner'lardan sonra) Mongo'dan okundugu icin uretilen veriyi zaten gorur.
+ */
+@Component
+@Profile("loadtest")
+@Order(2)
+public class SyntheticDataGenerator implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    private static final int DUPLICATE_KEY = 11000;
+    private static final long TWO_YEARS_MS = 2L * 365 * 24 * 60 * 60 * 1000;
+
+    private static final Weighted<String> DEPARTMENTS = new Weighted<>(
+            List.of("Engineering", "Sales", "Marketing", "Operations", "Support", "HR", "Finance", "Legal"),
+            new int[]{35, 20, 15, 9, 9, 5, 4, 3});
+    private static final Weighted<String> MSG_TYPES = new Weighted<>(
+            List.of("PUSH", "EMAIL", "SMS", "WEB_PUSH", "IN_APP"),
+            new int[]{50, 25, 10, 8, 7});
+    private static final Weighted<String> SEND_STATUSES = new Weighted<>(
+            List.of("FINISHED", "DRAFT", "STOPPED", "DELETED"),
+            new int[]{60, 20, 12, 8});
+    private static final Weighted<List<String>> PLATFORMS = new Weighted<>(
+            List.of(List.of("ANDROID", "IOS"), List.of("ANDROID"), List.of("IOS"),
+                    List.of("CHROME", "FIREFOX"), List.of("CHROME")),
+            new int[]{55, 20, 10, 10, 5});
+    private static final Weighted<String> MSG_METHODS = new Weighted<>(
+            List.of("CAMPAIGN", "TRANSACTIONAL"), new int[]{85, 15});
+    private static final Weighted<String> CAMPAIGN_STYLES = new Weighted<>(
+            List.of("TEXT", "MEDIA"), new int[]{70, 30});
+    private static final Weighted<String> SEGMENT_TYPES = new Weighted<>(
+            List.of("STANDARD", "CONNECTORS_SEGMENT"), new int[]{85, 15});
+    private static final Weighted<String> SEGMENT_STATUSES = new Weighted<>(
+            List.of("READY", "WAITING_CALCULATE", "WAITING_DELETED"), new int[]{80, 15, 5});
+
+    private static final String[] FIRST_NAMES = {"Ahmet", "Elif", "Mehmet", "Zeynep", "Can", "Ayse", "Mustafa",
+            "Fatma", "Emre", "Selin", "Burak", "Deniz", "Cem", "Ece", "Kerem", "Ipek"};
+    private static final String[] LAST_NAMES = {"Yilmaz", "Kaya", "Demir", "Arslan", "Ozturk", "Sahin", "Celik",
+            "Aydin", "Koc", "Kurt", "Polat", "Aksoy", "Erdem", "Tekin"};
+    private static final String[] TITLE_WORDS = {"Kampanya", "Indirim", "Firsat", "Bulten", "Hatirlatma",
+            "Duyuru", "Anket", "Hosgeldin", "Flash Sale", "Sepet"};
+
+    private static final int SEGMENT_CODE_SPACE = 26 * 26 * 26 * 26 * 26;
+
+    private final MongoTemplate mongoTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final long users;
+    private final long messages;
+    private final long segments;
+    private final int batchSize;
+    private final int parallelism;
+    private final long seed;
+
+    public SyntheticDataGenerator(MongoTemplate mongoTemplate,
+                                  PasswordEncoder passwordEncoder,
+                                  @Value("${mcp.loadtest.users:1000000}") long users,
+                                  @Value("${mcp.loadtest.messages:5000000}") long messages,
+                                  @Value("${mcp.loadtest.segments:100000}") long segments,
+                                  @Value("${mcp.loadtest.batch-size:5000}") int batchSize,
+                                  @Value("${mcp.loadtest.parallelism:0}") int parallelism,
+                                  @Value("${mcp.loadtest.seed:42}") long seed) {
+        this.mongoTemplate = mongoTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.users = users;
+        this.messages = messages;
+        this.segments = Math.min(segments, SEGMENT_CODE_SPACE);
+        this.batchSize = batchSize;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.seed = seed;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        String passwordHash = passwordEncoder.encode("password123");
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            generate(executor, User.class, users,
+                    (random, i) -> user(random, i, passwordHash));
+            generate(executor, Message.class, messages, this::message);
+            generate(executor, Segment.class, segments, this::segment);
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+
+    /**
+     * [mevcut sayi, hedef) araligindaki index'ler icin document uretir ve batch batch yazar.
+     * Her batch kendi seed'li Random'ini kullanir; sonuc thread sirasindan bagimsizdir.
+     */
+    private void generate(ExecutorService executor, Class<?> entity, long target,
+                          BiFunction<SplittableRandom, Long, Document> factory) throws Exception {
+        MongoCollection<Document> collection = mongoTemplate.getCollection(mongoTemplate.getCollectionName(entity));
+        long existing = collection.estimatedDocumentCount();
+        if (existing >= target) {
+            log.info("Loadtest {}: {} kayit mevcut (hedef {}), uretim atlaniyor.", collection.getNamespace().getCollectionName(), existing, target);
+            return;
+        }
+
+        long start = System.nanoTime();
+        List<Future<Long>> batches = new ArrayList<>();
+        for (long from = existing; from < target; from += batchSize) {
+            long batchStart = from;
+            long batchEnd = Math.min(from + batchSize, target);
+            batches.add(executor.submit(() -> {
+                SplittableRandom random = new SplittableRandom(seed * 31 + batchStart);
+                List<Document> docs = new ArrayList<>((int) (batchEnd - batchStart));
+                for (long i = batchStart; i < batchEnd; i++) {
+                    docs.add(factory.apply(random, i));
+                }
+                return insertUnordered(collection, docs);
+            }));
+        }
+
+        long inserted = 0;
+        for (Future<Long> batch : batches) {
+            try {
+                inserted += batch.get();
+            } catch (ExecutionException e) {
+                batches.forEach(remaining -> remaining.cancel(true));
+                throw e;
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        log.info("Loadtest {}: {} document {} sn'de yuklendi ({} doc/sn).",
+                collection.getNamespace().getCollectionName(), inserted,
+                String.format("%.1f", seconds), String.format("%.0f", inserted / Math.max(seconds, 0.001)));
+    }
+
+    /**
+     * Unordered insertMany: bir document hata verse de digerleri yazilir.
+     * Sadece unique index cakismalari (DataSeeder'in kayitlari, yarim kalmis onceki bir yukleme) yok sayilir.
+     */
+    private static long insertUnordered(MongoCollection<Document> collection, List<Document> docs) {
+        try {
+            collection.insertMany(docs, new InsertManyOptions().ordered(false));
+            return docs.size();
+        } catch (MongoBulkWriteException e) {
+            for (BulkWriteError error : e.getWriteErrors()) {
+                if (error.getCode() != DUPLICATE_KEY) {
+                    throw e;
+                }
+            }
+            return e.getWriteResult().getInsertedCount();
+        }
+    }
+
+    // ── Document fabrikalari ───────────────────────────────────
+
+    private static Document user(SplittableRandom random, long i, String passwordHash) {
+        String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        return new Document("name", first + " " + last)
+                .append("email", first.toLowerCase() + "." + last.toLowerCase() + "." + i + "@loadtest.example.com")
+                .append("department", DEPARTMENTS.pick(random))
+                .append("password", passwordHash);
+    }
+
+    private Document message(SplittableRandom random, long i) {
+        String sendStatus = SEND_STATUSES.pick(random);
+        int targetAudience = pareto(random, 500, 1.1, 5_000_000);
+        int targetUser = "DRAFT".equals(sendStatus) ? 0 : (int) (targetAudience * (0.3 + random.nextDouble() * 0.7));
+        Date createDate = randomDate(random);
+        boolean scheduled = random.nextInt(100) < 15;
+        return new Document("msgType", MSG_TYPES.pick(random))
+                .append("msgMethod", MSG_METHODS.pick(random))
+                .append("title", TITLE_WORDS[random.nextInt(TITLE_WORDS.length)] + " #" + i)
+                .append("message", "Sentetik mesaj icerigi #" + i)
+                .append("sendStatus", sendStatus)
+                .append("platforms", PLATFORMS.pick(random))
+                .append("creator", FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)])
+                .append("campaignStyle", CAMPAIGN_STYLES.pick(random))
+                .append("createDate", createDate)
+                .append("updateDate", createDate)
+                .append("targetAudience", targetAudience)
+                .append("targetUser", targetUser)
+                .append("schedule", new Document("type", scheduled ? "SCHEDULED" : "NOW")
+                        .append("scheduledDate", scheduled ? new Date(createDate.getTime() + 86_400_000L) : null));
+    }
+
+    private Document segment(SplittableRandom random, long i) {
+        String segmentStatus = SEGMENT_STATUSES.pick(random);
+        boolean deleted = "WAITING_DELETED".equals(segmentStatus) || random.nextInt(100) < 2;
+        int userCount = "WAITING_CALCULATE".equals(segmentStatus) ? 0 : pareto(random, 100, 1.2, 5_000_000);
+        int android = (int) (userCount * (0.4 + random.nextDouble() * 0.4));
+        Date date = randomDate(random);
+        return new Document("code", segmentCode(i))
+                .append("name", "Segment " + i)
+                .append("segmentType", SEGMENT_TYPES.pick(random))
+                .append("segmentStatus", segmentStatus)
+                .append("entityStatus", deleted ? "DELETED" : "ACTIVE")
+                .append("createdBy", FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)])
+                .append("date", date)
+                .append("updateDate", date)
+                .append("userCount", userCount)
+                .append("deviceCounts", new Document("android", android)
+                        .append("ios", userCount - android)
+                        .append("total", userCount));
+    }
+
+    // ── Yardimci Metodlar ──────────────────────────────────────
+
+    /**
+     * Index'i 5 harfli base-26 koda cevirir; her index icin farkli (unique index ile uyumlu).
+     */
+    private static String segmentCode(long index) {
+        char[] code = new char[5];
+        long value = index % SEGMENT_CODE_SPACE;
+        for (int pos = 4; pos >= 0; pos--) {
+            code[pos] = (char) ('a' + value % 26);
+            value /= 26;
+        }
+        return new String(code);
+    }
+
+    /**
+     * Pareto dagilimi: cogu deger min'e yakin, az sayida cok buyuk deger (uzun kuyruk).
+     */
+    private static int pareto(SplittableRandom random, int min, double alpha, int max) {
+        double value = min / Math.pow(1.0 - random.nextDouble(), 1.0 / alpha);
+        return (int) Math.min(value, max);
+    }
+
+    private static Date randomDate(SplittableRandom random) {
+        return new Date(System.currentTimeMillis() - random.nextLong(TWO_YEARS_MS));
+    }
+
+    /**
+     * Agirlikli secim: weights[i] / toplam olasilikla values[i] secilir.
+     */
+    private record Weighted<T>(List<T> values, int[] cumulative, int total) {
+
+        Weighted(List<T> values, int[] weights) {
+            this(values, cumulative(weights), Arrays.stream(weights).sum());
+        }
+
+        T pick(SplittableRandom random) {
+            int r = random.nextInt(total);
+            for (int i = 0; i < cumulative.length; i++) {
+                if (r < cumulative[i]) {
+                    return values.get(i);
+                }
+            }
+            return values.get(values.size() - 1);
+        }
+
+        private static int[] cumulative(int[] weights) {
+            int[] result = new int[weights.length];
+            int sum = 0;
+            for (int i = 0; i < weights.length; i++) {
+                sum += weights[i];
+                result[i] = sum;
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.tutorial.mcpserver.config;
+
+import io.opentelemetry.exporter.logging.LoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Span'ler harici bir collector olmadan log'a yazilir (LoggingSpanExporter, her span tek satir).
+ * Client'tan gelen trace _meta'daki traceparent ile devam eder (bkz. McpRequestObservation);
+ * server tarafinda tool / resource span'i ve altinda repository span'leri olusur.
+ */
+@Configuration
+@ConditionalOnProperty(name = "mcp.tracing.log-exporter.enabled", havingValue = "true", matchIfMissing = true)
+public class TracingConfig {
+
+    @Bean
+    public SpanExporter loggingSpanExporter() {
+        return LoggingSpanExporter.create();
+    }
+}
@@ -0,0 +1,71 @@
+package com.tutorial.mcpserver.controller;
+
+import com.tutorial.mcpserver.security.BoundedPasswordEncoder;
+import com.tutorial.mcpserver.security.JwtCache;
+import com.tutorial.mcpserver.security.UserDetailsCache;
+import com.tutorial.mcpserver.tool.ToolBulkheads;
+import com.tutorial.mcpserver.tool.ToolResultCache;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * Sunucunun calisma zamani sayaclarini JSON olarak gosterir.
+ *
+ *   GET /internal/stats/tool-cache → tool sonuc cache'i hit/miss/eviction sayilari
+ *   GET /internal/stats/bulkheads  → tool bazinda aktif/bekleyen cagri, red ve bekleme sureleri
+ *   GET /internal/stats/jwt-cache  → dogrulanmis JWT cache'i hit/miss/eviction sayilari
+ *   GET /internal/stats/user-details-cache → login UserDetails cache'i hit/miss sayilari
+ *   GET /internal/stats/password-hashing   → BCrypt havuzu doluluk, red ve hash sureleri
+ *
+ * Bearer token ister (bkz. SecurityConfig, filter chain 3).
+ */
+@RestController
+@RequestMapping("/internal/stats")
+public class RuntimeStatsController {
+
+    private final ToolResultCache toolResultCache;
+    private final ToolBulkheads toolBulkheads;
+    private final JwtCache jwtCache;
+    private final UserDetailsCache userDetailsCache;
+    private final BoundedPasswordEncoder passwordEncoder;
+
+    public RuntimeStatsController(ToolResultCache toolResultCache,
+                                  ToolBulkheads toolBulkheads,
+                                  JwtCache jwtCache,
+                                  UserDetailsCache userDetailsCache,
+                                  BoundedPasswordEncoder passwordEncoder) {
+        this.toolResultCache = toolResultCache;
+        this.toolBulkheads = toolBulkheads;
+        this.jwtCache = jwtCache;
+        this.userDetailsCache = userDetailsCache;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    @GetMapping("/tool-cache")
+    public Map<String, Object> toolCache() {
+        return toolResultCache.stats();
+    }
+
+    @GetMapping("/bulkheads")
+    public Map<String, Object> bulkheads() {
+        return toolBulkheads.stats();
+    }
+
+    @GetMapping("/jwt-cache")
+    public Map<String, Object> jwtCache() {
+        return jwtCache.stats();
+    }
+
+    @GetMapping("/user-details-cache")
+    public Map<String, Object> userDetailsCache() {
+        return userDetailsCache.stats();
+    }
+
+    @GetMapping("/password-hashing")
+    public Map<String, Object> passwordHashing() {
+        return passwordEncoder.stats();
+    }
+}
@@ -1,6 +1,7 @@
 package com.tutorial.mcpserver.model;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.util.Date;
@@ -15,8 +16,15 @@ import java.util.List;
  * msgType degerleri: PUSH, EMAIL, SMS, WEB_PUSH, IN_APP
  * sendStatus degerleri: DRAFT, FINISHED, STOPPED, DELETED
  * msgMethod degerleri: CAMPAIGN, TRANSACTIONAL
+ *
+ * Index'ler MessageRepository'deki derived query'lerle birebir eslesir
+ * (filtre alani + _id; _id sonuc sirasini index'ten okumayi saglar).
+ * Startup'ta IndexVerifier her sorguyu explain ile kontrol eder.
  */
 @Document(collection = "messages")
+@CompoundIndex(name = "msgType_id", def = "{'msgType': 1, '_id': 1}")        // findByMsgType, countByMsgType
+@CompoundIndex(name = "sendStatus_id", def = "{'sendStatus': 1, '_id': 1}")  // findBySendStatus, countBySendStatus
+@CompoundIndex(name = "platforms_id", def = "{'platforms': 1, '_id': 1}")    // findByPlatformsContaining (multikey)
 public class Message {
 
     @Id
@@ -0,0 +1,18 @@
+package com.tutorial.mcpserver.model;
+
+import java.util.Map;
+
+/**
+ * getMessageStats tool'unun ihtiyac duydugu sayilar.
+ *
+ * Tek bir $facet aggregation'in sonucudur (bkz. MessageRepositoryCustomImpl).
+ * Map'ler sayiya gore azalan siradadir; yeni bir msgType/sendStatus eklendiginde
+ * kod degismeden burada gorunur.
+ */
+public record MessageStats(
+        long total,
+        Map<String, Long> byType,
+        Map<String, Long> byStatus,
+        Map<String, Long> byMethod,
+        Map<String, Long> byPlatform) {
+}
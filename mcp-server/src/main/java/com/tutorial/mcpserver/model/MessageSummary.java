@@ -0,0 +1,10 @@
+package com.tutorial.mcpserver.model;
+
+/**
+ * Message document'inin list tool'larinda gosterilen alanlari (DTO projection).
+ *
+ * message (icerik), platforms, schedule gibi buyuyebilen alanlar
+ * Mongo'dan okunmaz; sadece { _id, msgType, title, sendStatus, targetAudience } gelir.
+ */
+public record MessageSummary(String id, String msgType, String title, String sendStatus, int targetAudience) {
+}
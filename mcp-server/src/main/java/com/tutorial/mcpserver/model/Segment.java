@@ -1,6 +1,7 @@
 package com.tutorial.mcpserver.model;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -16,8 +17,15 @@ import java.util.Date;
  * segmentType degerleri: STANDARD, CONNECTORS_SEGMENT
  * segmentStatus degerleri: READY, WAITING_CALCULATE, WAITING_DELETED
  * entityStatus degerleri: ACTIVE, DELETED
+ *
+ * Index'ler SegmentRepository'deki derived query'lerle birebir eslesir
+ * (filtre alani + _id; _id sonuc sirasini index'ten okumayi saglar).
+ * Startup'ta IndexVerifier her sorguyu explain ile kontrol eder.
  */
 @Document(collection = "segments")
+@CompoundIndex(name = "segmentStatus_id", def = "{'segmentStatus': 1, '_id': 1}")  // findBySegmentStatus
+@CompoundIndex(name = "entityStatus_id", def = "{'entityStatus': 1, '_id': 1}")    // findByEntityStatus, countByEntityStatus
+@CompoundIndex(name = "segmentType_id", def = "{'segmentType': 1, '_id': 1}")      // findBySegmentType
 public class Segment {
 
     @Id
@@ -0,0 +1,28 @@
+package com.tutorial.mcpserver.model;
+
+import java.util.Map;
+
+/**
+ * getSegmentStats tool'unun ihtiyac duydugu sayilar.
+ *
+ * Tek bir $facet aggregation'in sonucudur (bkz. SegmentRepositoryCustomImpl).
+ * userCount ve deviceCounts toplamlari Mongo tarafinda $sum ile hesaplanir.
+ */
+public record SegmentStats(
+        long total,
+        long totalUserCount,
+        long androidDevices,
+        long iosDevices,
+        long totalDevices,
+        Map<String, Long> byEntityStatus,
+        Map<String, Long> bySegmentStatus,
+        Map<String, Long> bySegmentType) {
+
+    public long activeCount() {
+        return byEntityStatus.getOrDefault("ACTIVE", 0L);
+    }
+
+    public long deletedCount() {
+        return byEntityStatus.getOrDefault("DELETED", 0L);
+    }
+}
@@ -0,0 +1,11 @@
+package com.tutorial.mcpserver.model;
+
+/**
+ * Segment document'inin list tool'larinda gosterilen alanlari (DTO projection).
+ *
+ * Mongo'dan sadece { _id, code, name, entityStatus, segmentStatus, userCount } okunur;
+ * deviceCounts ve tarih alanlari list ciktisinda kullanilmadigi icin gelmez.
+ */
+public record SegmentSummary(String id, String code, String name,
+                             String entityStatus, String segmentStatus, int userCount) {
+}
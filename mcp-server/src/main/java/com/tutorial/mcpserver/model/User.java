@@ -1,6 +1,7 @@
 package com.tutorial.mcpserver.model;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -16,8 +17,12 @@ import org.springframework.data.mongodb.core.mapping.Document;
  *   - @Column yerine @Field (opsiyonel, alan adi ayni ise gerekli degil)
  *   - @GeneratedValue yok → MongoDB kendi ObjectId'sini otomatik uretir
  *   - ID tipi Long yerine String (MongoDB ObjectId string formatindadir)
+ *
+ * Index'ler UserRepository'deki derived query'lerle birebir eslesir.
+ * Startup'ta IndexVerifier her sorguyu explain ile kontrol eder.
  */
 @Document(collection = "users")
+@CompoundIndex(name = "department_id", def = "{'department': 1, '_id': 1}")  // findByDepartment
 public class User {
 
     @Id
@@ -0,0 +1,18 @@
+package com.tutorial.mcpserver.model;
+
+/**
+ * User document'inin list tool'larinda gosterilen alanlari (DTO projection).
+ *
+ * Repository method'u bu tipi dondurdugunde Spring Data sorguya
+ * { _id: 1, name: 1, email: 1, department: 1 } projection'ini ekler;
+ * password gibi gosterilmeyen alanlar Mongo'dan hic okunmaz.
+ */
+public record UserSummary(String id, String name, String email, String department) {
+
+    /**
+     * Tek kayit donduren tool'lar icin: entity'deki password tool sonucuna girmez.
+     */
+    public static UserSummary of(User user) {
+        return new UserSummary(user.getId(), user.getName(), user.getEmail(), user.getDepartment());
+    }
+}
@@ -0,0 +1,88 @@
+package com.tutorial.mcpserver.mongo;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+import java.util.Map;
+
+/**
+ * Yavas sorgu log'u icin komut filtresinin "sekli": alan adlari ve operator'ler kalir, degerler "?" olur.
+ *
+ *   {"segmentStatus": "READY"}                     → {"segmentStatus": "?"}
+ *   {"_id": {"$gt": ObjectId(...)}}                → {"_id": {"$gt": "?"}}
+ *   [{"$match": {"msgType": "PUSH"}}, {"$count": "n"}] → [{"$match": {"msgType": "?"}}, {"$count": "?"}]
+ *
+ * Ayni sekildeki sorgular ayni metni uretir; log'da kullanici verisi (e-posta, id) gorunmez.
+ */
+final class FilterShape {
+
+    private static final int MAX_LENGTH = 500;
+
+    private FilterShape() {
+    }
+
+    /**
+     * Komut turune gore filtreyi bulur: find → filter, count/distinct/findAndModify → query,
+     * aggregate → pipeline, update/delete → ilk ifadenin q'su. Filtresi olmayan komutlarda "-".
+     */
+    static String of(String command, BsonDocument document) {
+        BsonValue filter = switch (command) {
+            case "find" -> document.get("filter");
+            case "count", "distinct", "findAndModify" -> document.get("query");
+            case "aggregate" -> document.get("pipeline");
+            case "update" -> firstStatementQuery(document.get("updates"));
+            case "delete" -> firstStatementQuery(document.get("deletes"));
+            default -> null;
+        };
+        if (filter == null) {
+            return "-";
+        }
+        StringBuilder sb = new StringBuilder();
+        append(sb, filter);
+        if (sb.length() > MAX_LENGTH) {
+            sb.setLength(MAX_LENGTH);
+            sb.append("...");
+        }
+        return sb.toString();
+    }
+
+    private static BsonValue firstStatementQuery(BsonValue statements) {
+        if (statements instanceof BsonArray array && !array.isEmpty() && array.get(0).isDocument()) {
+            return array.get(0).asDocument().get("q");
+        }
+        return null;
+    }
+
+    private static void append(StringBuilder sb, BsonValue value) {
+        if (sb.length() > MAX_LENGTH) {
+            return;
+        }
+        if (value instanceof BsonDocument document) {
+            sb.append('{');
+            boolean first = true;
+            for (Map.Entry<String, BsonValue> entry : document.entrySet()) {
+                if (!first) {
+                    sb.append(", ");
+                }
+                first = false;
+                sb.append('"').append(entry.getKey()).append("\": ");
+                append(sb, entry.getValue());
+            }
+            sb.append('}');
+        } else if (value instanceof BsonArray array && !array.isEmpty()
+                && (array.get(0).isDocument() || array.get(0).isArray())) {
+            // Pipeline ve $and/$or listeleri: her eleman ayri sekil
+            sb.append('[');
+            for (int i = 0; i < array.size(); i++) {
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                append(sb, array.get(i));
+            }
+            sb.append(']');
+        } else {
+            sb.append("\"?\"");
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.tutorial.mcpserver.mongo;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.bson.BsonArray;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MongoClient'a eklenen CommandListener: komut bazinda Micrometer metrikleri ve yavas sorgu log'u.
+ *
+ *   mcp.mongo.command.duration   (timer)   → command, collection, repository, outcome (success | error)
+ *   mcp.mongo.command.documents  (summary) → donen (find/aggregate/getMore) ya da etkilenen (insert/update/delete) document sayisi
+ *   mcp.mongo.command.reply.size (summary) → cevabin BSON byte boyutu (mcp.mongo.metrics.measure-reply-size, varsayilan kapali)
+ *
+ * "repository" etiketi komutu gonderen repository method'udur (bkz. RepositoryMethodTracker).
+ * Sure mcp.mongo.slow-query.threshold'u asan komutlar WARN olarak loglanir; filtre degerleri
+ * "?" ile maskelenir, log'a sadece sorgunun sekli (alanlar ve operator'ler) yazilir:
+ *   find segments {"segmentStatus": "?"} ← SegmentRepository.findBySegmentStatus (312 ms)
+ *
+ * Event'teki komut document'i sadece started event'i suresince gecerlidir; bu yuzden
+ * collection, repository ve (yavas sorgu log'u aciksa) filtre sekli started'da alinir.
+ */
+public class MongoCommandMetrics implements CommandListener {
+
+    private static final Logger log = LoggerFactory.getLogger(MongoCommandMetrics.class);
+
+    /** Cevabi metriklenmeyen baglanti / handshake komutlari. */
+    private static final Set<String> IGNORED_COMMANDS = Set.of(
+            "hello", "isMaster", "ismaster", "ping", "buildInfo", "saslStart", "saslContinue", "endSessions");
+
+    private static final BsonDocumentCodec CODEC = new BsonDocumentCodec();
+    private static final EncoderContext ENCODER_CONTEXT = EncoderContext.builder().build();
+
+    private final MeterRegistry meterRegistry;
+    private final Duration slowQueryThreshold;
+    private final boolean slowQueryLog;
+    private final boolean measureReplySize;
+    private final Map<Integer, Started> inFlight = new ConcurrentHashMap<>();
+
+    public MongoCommandMetrics(MeterRegistry meterRegistry, Duration slowQueryThreshold, boolean measureReplySize) {
+        this.meterRegistry = meterRegistry;
+        this.slowQueryThreshold = slowQueryThreshold;
+        this.slowQueryLog = !slowQueryThreshold.isZero() && !slowQueryThreshold.isNegative();
+        this.measureReplySize = measureReplySize;
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        String command = event.getCommandName();
+        if (IGNORED_COMMANDS.contains(command)) {
+            return;
+        }
+        BsonDocument document = event.getCommand();
+        inFlight.put(event.getRequestId(), new Started(
+                collection(command, document),
+                RepositoryMethodTracker.current(),
+                slowQueryLog ? FilterShape.of(command, document) : null));
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        Started started = inFlight.remove(event.getRequestId());
+        if (started == null) {
+            return;
+        }
+        long nanos = event.getElapsedTime(TimeUnit.NANOSECONDS);
+        Tags tags = started.tags(event.getCommandName());
+        timer(tags, "success").record(nanos, TimeUnit.NANOSECONDS);
+
+        BsonDocument reply = event.getResponse();
+        long documents = documentCount(reply);
+        if (documents >= 0) {
+            DistributionSummary.builder("mcp.mongo.command.documents")
+                    .description("Documents returned or affected by a MongoDB command")
+                    .tags(tags)
+                    .register(meterRegistry)
+                    .record(documents);
+        }
+        if (measureReplySize) {
+            DistributionSummary.builder("mcp.mongo.command.reply.size")
+                    .description("BSON size of MongoDB command replies")
+                    .baseUnit("bytes")
+                    .tags(tags)
+                    .register(meterRegistry)
+                    .record(bsonSize(reply));
+        }
+        logIfSlow(event.getCommandName(), started, nanos, null);
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        Started started = inFlight.remove(event.getRequestId());
+        if (started == null) {
+            return;
+        }
+        long nanos = event.getElapsedTime(TimeUnit.NANOSECONDS);
+        timer(started.tags(event.getCommandName()), "error").record(nanos, TimeUnit.NANOSECONDS);
+        logIfSlow(event.getCommandName(), started, nanos, event.getThrowable());
+    }
+
+    // ── Yardimci Metodlar ──────────────────────────────────────
+
+    private Timer timer(Tags tags, String outcome) {
+        return Timer.builder("mcp.mongo.command.duration")
+                .description("MongoDB command duration by repository method")
+                .tags(tags)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private void logIfSlow(String command, Started started, long nanos, Throwable failure) {
+        if (!slowQueryLog || nanos < slowQueryThreshold.toNanos()) {
+            return;
+        }
+        long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        if (failure == null) {
+            log.warn("Yavas Mongo komutu: {} {} {} ← {} ({} ms)",
+                    command, started.collection(), started.filterShape(), started.repository(), millis);
+        } else {
+            log.warn("Yavas Mongo komutu (hata): {} {} {} ← {} ({} ms): {}",
+                    command, started.collection(), started.filterShape(), started.repository(), millis,
+                    failure.getMessage());
+        }
+    }
+
+    /**
+     * Komutun ilk alani collection adidir (find: "segments", insert: "users" ...);
+     * getMore'da ilk alan cursor id'sidir, collection ayri "collection" alanindadir.
+     */
+    private static String collection(String command, BsonDocument document) {
+        if ("getMore".equals(command)) {
+            BsonValue collection = document.get("collection");
+            return collection != null && collection.isString() ? collection.asString().getValue() : "unknown";
+        }
+        BsonValue first = document.isEmpty() ? null : document.get(document.getFirstKey());
+        return first != null && first.isString() ? first.asString().getValue() : "none";
+    }
+
+    /**
+     * Cursor cevaplarinda batch'teki, yazma komutlarinda etkilenen document sayisi; bilinmiyorsa -1.
+     */
+    private static long documentCount(BsonDocument reply) {
+        BsonValue cursor = reply.get("cursor");
+        if (cursor != null && cursor.isDocument()) {
+            BsonValue batch = cursor.asDocument().containsKey("firstBatch")
+                    ? cursor.asDocument().get("firstBatch")
+                    : cursor.asDocument().get("nextBatch");
+            return batch instanceof BsonArray array ? array.size() : -1;
+        }
+        BsonValue n = reply.get("n");
+        return n != null && n.isNumber() ? n.asNumber().longValue() : -1;
+    }
+
+    /**
+     * Cevap byte'lari uzerinde duruyorsa (RawBsonDocument) boyut oradan okunur; degilse cevap
+     * tekrar encode edilir. Bu her cevap icin bir kopya demektir, bu yuzden olcum varsayilan olarak kapalidir.
+     */
+    private static long bsonSize(BsonDocument reply) {
+        if (reply instanceof RawBsonDocument raw) {
+            return raw.getByteBuffer().remaining();
+        }
+        try (BasicOutputBuffer buffer = new BasicOutputBuffer();
+             BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            CODEC.encode(writer, reply, ENCODER_CONTEXT);
+            return buffer.getPosition();
+        }
+    }
+
+    private record Started(String collection, String repository, String filterShape) {
+
+        Tags tags(String command) {
+            return Tags.of("command", command, "collection", collection, "repository", repository);
+        }
+    }
+}
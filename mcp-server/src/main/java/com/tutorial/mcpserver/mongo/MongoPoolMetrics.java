@@ -0,0 +1,47 @@
+package com.tutorial.mcpserver.mongo;
+
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionPoolListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Connection pool'dan baglanti alma (checkout) suresi: pool'u bekleyen sorgular yavas sorgulardan ayrilir.
+ *
+ *   mcp.mongo.pool.checkout (timer) → repository, outcome (success | timeout | connection_error | pool_closed)
+ *
+ * mcp.mongo.command.duration yuksek ama checkout suresi dusukse sorgu yavastir;
+ * checkout suresi yuksekse pool (spring.data.mongodb.uri maxPoolSize) yetmiyordur.
+ * Pool boyutu / kullanilan / bekleyen sayilari Spring Boot'un mongodb.driver.pool.* metrikleridir.
+ */
+public class MongoPoolMetrics implements ConnectionPoolListener {
+
+    private final MeterRegistry meterRegistry;
+
+    public MongoPoolMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void connectionCheckedOut(ConnectionCheckedOutEvent event) {
+        timer("success").record(event.getElapsedTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void connectionCheckOutFailed(ConnectionCheckOutFailedEvent event) {
+        String outcome = event.getReason().name().toLowerCase(Locale.ROOT);
+        timer(outcome).record(event.getElapsedTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(String outcome) {
+        return Timer.builder("mcp.mongo.pool.checkout")
+                .description("Time spent waiting for a MongoDB connection from the pool")
+                .tag("repository", RepositoryMethodTracker.current())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
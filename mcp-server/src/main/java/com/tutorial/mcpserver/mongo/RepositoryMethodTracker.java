@@ -0,0 +1,95 @@
+package com.tutorial.mcpserver.mongo;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.util.function.Supplier;
+
+/**
+ * Mongo komutunu hangi repository method'unun gonderdigini thread uzerinde tutar.
+ *
+ * Her blocking repository proxy'sine bir interceptor eklenir; method calisirken
+ * current() "SegmentRepository.findBySegmentStatus" gibi bir deger dondurur.
+ * Sync Mongo driver'i CommandListener event'lerini komutu gonderen thread'de cagirdigi icin
+ * MongoCommandMetrics ve MongoPoolMetrics bu degeri etiket olarak kullanir.
+ *
+ * Her cagri ayrica bir span'dir (observation "mcp.repository"); tool cagrisinin span'i altinda
+ * acildigi icin trace'te tool suresinin ne kadarinin Mongo'da gectigi gorunur.
+ *
+ * Repository disindan gelen komutlar (MongoTemplate, index/istatistik islemleri) "none" olur.
+ * Reactive repository'ler izlenmez: komutlari method dondukten sonra baska thread'lerde calisir.
+ * Stream donduren method'larda (streamAllBy) sonraki getMore'lar method disinda kalir.
+ */
+public final class RepositoryMethodTracker implements MethodInterceptor {
+
+    public static final String NONE = "none";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private final String repositoryName;
+    private final Supplier<ObservationRegistry> observationRegistry;
+
+    private RepositoryMethodTracker(Class<?> repositoryInterface, Supplier<ObservationRegistry> observationRegistry) {
+        this.repositoryName = repositoryInterface.getSimpleName();
+        this.observationRegistry = observationRegistry;
+    }
+
+    /**
+     * O an calisan repository method'u; repository disindaysa NONE.
+     */
+    public static String current() {
+        String method = CURRENT.get();
+        return method != null ? method : NONE;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        String previous = CURRENT.get();
+        String method = repositoryName + "." + invocation.getMethod().getName();
+        CURRENT.set(method);
+        try {
+            return Observation.createNotStarted("mcp.repository", observationRegistry.get())
+                    .contextualName(method)
+                    .lowCardinalityKeyValue("repository.method", method)
+                    .observeChecked(invocation::proceed);
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * Repository factory bean'lerine interceptor'u ekleyen BeanPostProcessor.
+     * Factory bean'ler repository'yi olusturmadan (afterPropertiesSet) once islenir.
+     * ObservationRegistry ilk repository cagrisinda alinir (BeanPostProcessor'lar erken olusur).
+     */
+    public static BeanPostProcessor installer(ObjectProvider<ObservationRegistry> observationRegistryProvider) {
+        Supplier<ObservationRegistry> observationRegistry =
+                SingletonSupplier.of(() -> observationRegistryProvider.getIfAvailable(() -> ObservationRegistry.NOOP));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, information) -> {
+                                if (!information.isReactiveRepository()) {
+                                    proxyFactory.addAdvice(new RepositoryMethodTracker(
+                                            information.getRepositoryInterface(), observationRegistry));
+                                }
+                            }));
+                }
+                return bean;
+            }
+        };
+    }
+}
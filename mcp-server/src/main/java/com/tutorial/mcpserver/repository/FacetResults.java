@@ -0,0 +1,80 @@
+package com.tutorial.mcpserver.repository;
+
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * $facet ile yazilan istatistik aggregation'lari icin ortak parcalar.
+ *
+ * Her "countBy" facet'i { _id: <alan degeri>, count: <adet> } document'lari uretir;
+ * bu sinif onlari sirasi korunan bir Map'e cevirir.
+ */
+final class FacetResults {
+
+    static final String COUNT = "count";
+
+    /** Alan degeri olmayan (null / eksik) document'lar bu anahtarla sayilir. */
+    static final String UNKNOWN = "UNKNOWN";
+
+    private FacetResults() {
+    }
+
+    /**
+     * { $group: { _id: "$field", count: { $sum: 1 } } }, { $sort: { count: -1 } }
+     */
+    static AggregationOperation[] countBy(String field) {
+        return new AggregationOperation[] {
+                Aggregation.group(field).count().as(COUNT),
+                Aggregation.sort(Sort.by(Sort.Direction.DESC, COUNT).and(Sort.by(Sort.Direction.ASC, "_id")))
+        };
+    }
+
+    /**
+     * Array alanlar icin: once $unwind, sonra countBy.
+     */
+    static AggregationOperation[] unwindAndCountBy(String arrayField) {
+        AggregationOperation[] countBy = countBy(arrayField);
+        return new AggregationOperation[] { Aggregation.unwind(arrayField), countBy[0], countBy[1] };
+    }
+
+    /**
+     * Tek document donduren bir facet'ten (ornegin $count veya _id'siz $group) bir sayi okur.
+     * Bos collection'da facet bos array doner, o durumda 0.
+     */
+    static long single(Document facets, String facet, String field) {
+        List<Document> docs = facet(facets, facet);
+        if (docs.isEmpty()) {
+            return 0;
+        }
+        Object value = docs.get(0).get(field);
+        return value instanceof Number number ? number.longValue() : 0;
+    }
+
+    /**
+     * countBy facet'ini { deger → adet } Map'ine cevirir (aggregation'daki siralama korunur).
+     */
+    static Map<String, Long> counts(Document facets, String facet) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Document doc : facet(facets, facet)) {
+            Object key = doc.get("_id");
+            Object value = doc.get(COUNT);
+            counts.merge(key != null ? key.toString() : UNKNOWN,
+                    value instanceof Number number ? number.longValue() : 0L, Long::sum);
+        }
+        return counts;
+    }
+
+    private static List<Document> facet(Document facets, String facet) {
+        if (facets == null) {
+            return Collections.emptyList();
+        }
+        return facets.getList(facet, Document.class, Collections.emptyList());
+    }
+}
@@ -1,9 +1,12 @@
 package com.tutorial.mcpserver.repository;
 
 import com.tutorial.mcpserver.model.Message;
+import com.tutorial.mcpserver.model.MessageSummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Message collection'ina erisim katmani.
@@ -12,12 +15,31 @@ import java.util.List;
  *   findByMsgType("PUSH")  → db.messages.find({msgType: "PUSH"})
  *   countBySendStatus("FINISHED") → db.messages.count({sendStatus: "FINISHED"})
  *   findByPlatformsContaining("ANDROID") → platforms array'inde "ANDROID" icerenleri bulur
+ *
+ * List tool'larinin kullandigi method'lar MessageSummary (DTO projection) dondurur;
+ * message icerigi ve schedule gibi alanlar Mongo'dan okunmaz.
+ *
+ * Istatistikler icin tek $facet aggregation: aggregateStats() (bkz. MessageRepositoryCustomImpl)
+ *
+ * Keyset pagination (Pageable ile _id'ye gore sirali + limit):
+ *   findAllBy(page)               → db.messages.find({}).sort({_id: 1}).limit(n)
+ *   findByIdGreaterThan(id, page) → db.messages.find({_id: {$gt: id}}).sort({_id: 1}).limit(n)
  */
-public interface MessageRepository extends MongoRepository<Message, String> {
+public interface MessageRepository extends MongoRepository<Message, String>, MessageRepositoryCustom {
+
+    List<MessageSummary> findAllBy(Pageable pageable);
+
+    List<MessageSummary> findByIdGreaterThan(String id, Pageable pageable);
+
+    /**
+     * Tum collection'i Mongo cursor'u uzerinden tek tek okur (findAll gibi listeye doldurmaz).
+     * Stream kapatilinca cursor da kapanir, bu yuzden try-with-resources ile kullanilmali.
+     */
+    Stream<Message> streamAllBy();
 
-    List<Message> findByMsgType(String msgType);
+    List<MessageSummary> findByMsgType(String msgType);
 
-    List<Message> findBySendStatus(String sendStatus);
+    List<MessageSummary> findBySendStatus(String sendStatus);
 
     List<Message> findByPlatformsContaining(String platform);
 
@@ -0,0 +1,16 @@
+package com.tutorial.mcpserver.repository;
+
+import com.tutorial.mcpserver.model.MessageStats;
+
+/**
+ * MessageRepository'ye eklenen, method isminden turetilemeyen sorgular.
+ * Implementasyon: MessageRepositoryCustomImpl (Spring Data bu ismi otomatik bulur).
+ */
+public interface MessageRepositoryCustom {
+
+    /**
+     * Toplam mesaj sayisi ile type, status, method ve platform dagilimlarini
+     * tek round trip'te hesaplar.
+     */
+    MessageStats aggregateStats();
+}
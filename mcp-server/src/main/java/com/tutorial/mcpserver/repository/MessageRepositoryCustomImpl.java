@@ -0,0 +1,49 @@
+package com.tutorial.mcpserver.repository;
+
+import com.tutorial.mcpserver.model.Message;
+import com.tutorial.mcpserver.model.MessageStats;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+
+/**
+ * getMessageStats icin tek aggregation:
+ *
+ *   db.messages.aggregate([{ $facet: {
+ *       total:      [{ $count: "count" }],
+ *       byType:     [{ $group: { _id: "$msgType",    count: { $sum: 1 } } }, { $sort: { count: -1 } }],
+ *       byStatus:   [{ $group: { _id: "$sendStatus", count: { $sum: 1 } } }, { $sort: { count: -1 } }],
+ *       byMethod:   [{ $group: { _id: "$msgMethod",  count: { $sum: 1 } } }, { $sort: { count: -1 } }],
+ *       byPlatform: [{ $unwind: "$platforms" }, { $group: { _id: "$platforms", ... } }, ...]
+ *   }}])
+ *
+ * Onceki hali 1 count + 5 countByMsgType + 4 countBySendStatus = 10 round trip yapiyordu.
+ */
+public class MessageRepositoryCustomImpl implements MessageRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    public MessageRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public MessageStats aggregateStats() {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.facet(Aggregation.count().as(FacetResults.COUNT)).as("total")
+                        .and(FacetResults.countBy("msgType")).as("byType")
+                        .and(FacetResults.countBy("sendStatus")).as("byStatus")
+                        .and(FacetResults.countBy("msgMethod")).as("byMethod")
+                        .and(FacetResults.unwindAndCountBy("platforms")).as("byPlatform"));
+
+        Document facets = mongoTemplate.aggregate(aggregation, Message.class, Document.class)
+                .getUniqueMappedResult();
+
+        return new MessageStats(
+                FacetResults.single(facets, "total", FacetResults.COUNT),
+                FacetResults.counts(facets, "byType"),
+                FacetResults.counts(facets, "byStatus"),
+                FacetResults.counts(facets, "byMethod"),
+                FacetResults.counts(facets, "byPlatform"));
+    }
+}
@@ -0,0 +1,29 @@
+package com.tutorial.mcpserver.repository;
+
+import com.tutorial.mcpserver.model.Message;
+import com.tutorial.mcpserver.model.MessageSummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
+
+/**
+ * MessageRepository'nin reactive karsiligi (spring.ai.mcp.server.type: ASYNC).
+ *
+ * Istatistikler Mongo'dan degil StatsCounters'tan okundugu icin
+ * aggregateStats() ve count method'larinin reactive karsiligi yoktur.
+ */
+public interface ReactiveMessageRepository extends ReactiveMongoRepository<Message, String> {
+
+    Flux<MessageSummary> findAllBy(Pageable pageable);
+
+    Flux<MessageSummary> findByIdGreaterThan(String id, Pageable pageable);
+
+    /**
+     * Tum collection'i Mongo cursor'u uzerinden, demand geldikce okur.
+     */
+    Flux<Message> streamAllBy();
+
+    Flux<MessageSummary> findByMsgType(String msgType);
+
+    Flux<MessageSummary> findBySendStatus(String sendStatus);
+}
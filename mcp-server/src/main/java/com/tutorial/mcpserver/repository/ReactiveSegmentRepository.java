@@ -0,0 +1,32 @@
+package com.tutorial.mcpserver.repository;
+
+import com.tutorial.mcpserver.model.Segment;
+import com.tutorial.mcpserver.model.SegmentSummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * SegmentRepository'nin reactive karsiligi (spring.ai.mcp.server.type: ASYNC).
+ *
+ * Istatistikler Mongo'dan degil StatsCounters'tan okundugu icin
+ * aggregateStats() ve count method'larinin reactive karsiligi yoktur.
+ */
+public interface ReactiveSegmentRepository extends ReactiveMongoRepository<Segment, String> {
+
+    Flux<SegmentSummary> findAllBy(Pageable pageable);
+
+    Flux<SegmentSummary> findByIdGreaterThan(String id, Pageable pageable);
+
+    /**
+     * Tum collection'i Mongo cursor'u uzerinden, demand geldikce okur.
+     */
+    Flux<Segment> streamAllBy();
+
+    Flux<SegmentSummary> findByEntityStatus(String entityStatus);
+
+    Flux<SegmentSummary> findBySegmentStatus(String segmentStatus);
+
+    Mono<Segment> findByCode(String code);
+}
@@ -0,0 +1,35 @@
+package com.tutorial.mcpserver.repository;
+
+import com.tutorial.mcpserver.model.User;
+import com.tutorial.mcpserver.model.UserSummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * UserRepository'nin reactive karsiligi (spring.ai.mcp.server.type: ASYNC).
+ *
+ * Sorgular UserRepository ile birebir aynidir, fark sadece donus tipindedir:
+ * sonuclar Flux/Mono olarak gelir ve cagiran thread Mongo cevabini beklerken bloklanmaz.
+ * IndexVerifier bu method'lari da ayni query shape'leri ile kontrol eder.
+ */
+public interface ReactiveUserRepository extends ReactiveMongoRepository<User, String>, ReactiveUserRepositoryCustom {
+
+    Flux<UserSummary> findAllBy(Pageable pageable);
+
+    Flux<UserSummary> findByIdGreaterThan(String id, Pageable pageable);
+
+    /**
+     * Tum collection'i Mongo cursor'u uzerinden, demand geldikce okur.
+     */
+    Flux<User> streamAllBy();
+
+    Flux<UserSummary> findByDepartment(String department);
+
+    Mono<Boolean> existsByEmail(String email);
+
+    Flux<UserSummary> findByEmailIn(Collection<String> emails);
+}
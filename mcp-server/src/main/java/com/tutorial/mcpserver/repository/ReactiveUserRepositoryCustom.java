@@ -0,0 +1,19 @@
+package com.tutorial.mcpserver.repository;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.tutorial.mcpserver.model.User;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * UserRepositoryCustom'in reactive karsiligi (spring.ai.mcp.server.type: ASYNC).
+ * Implementasyon: ReactiveUserRepositoryCustomImpl.
+ */
+public interface ReactiveUserRepositoryCustom {
+
+    /**
+     * bkz. UserRepositoryCustom.insertUnordered
+     */
+    Mono<List<BulkWriteError>> insertUnordered(List<User> users);
+}
@@ -0,0 +1,43 @@
+package com.tutorial.mcpserver.repository;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.model.InsertManyOptions;
+import com.tutorial.mcpserver.model.User;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * UserRepositoryCustomImpl ile ayni insertMany ({ ordered: false }), sonuc Mono olarak doner.
+ */
+public class ReactiveUserRepositoryCustomImpl implements ReactiveUserRepositoryCustom {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    public ReactiveUserRepositoryCustomImpl(ReactiveMongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Mono<List<BulkWriteError>> insertUnordered(List<User> users) {
+        if (users.isEmpty()) {
+            return Mono.just(List.of());
+        }
+        List<Document> documents = new ArrayList<>(users.size());
+        for (User user : users) {
+            Document document = new Document();
+            mongoTemplate.getConverter().write(user, document);
+            documents.add(document);
+        }
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(User.class))
+                .flatMap(collection -> Mono.from(collection.insertMany(documents, new InsertManyOptions().ordered(false))))
+                .thenReturn(List.<BulkWriteError>of())
+                .onErrorResume(MongoBulkWriteException.class, e -> e.getWriteConcernError() != null
+                        ? Mono.error(e)
+                        : Mono.just(e.getWriteErrors()));
+    }
+}
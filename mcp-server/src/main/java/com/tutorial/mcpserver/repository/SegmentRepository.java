@@ -1,10 +1,13 @@
 package com.tutorial.mcpserver.repository;
 
 import com.tutorial.mcpserver.model.Segment;
+import com.tutorial.mcpserver.model.SegmentSummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Segment collection'ina erisim katmani.
@@ -12,14 +15,33 @@ import java.util.Optional;
  * Spring Data MongoDB, method isimlerinden otomatik sorgu uretir:
  *   findByEntityStatus("ACTIVE") → db.segments.find({entityStatus: "ACTIVE"})
  *   findByCode("svysw") → db.segments.find({code: "svysw"})
+ *
+ * List tool'larinin kullandigi method'lar SegmentSummary (DTO projection) dondurur;
+ * deviceCounts ve tarih alanlari Mongo'dan okunmaz.
+ *
+ * Istatistikler icin tek $facet aggregation: aggregateStats() (bkz. SegmentRepositoryCustomImpl)
+ *
+ * Keyset pagination (Pageable ile _id'ye gore sirali + limit):
+ *   findAllBy(page)               → db.segments.find({}).sort({_id: 1}).limit(n)
+ *   findByIdGreaterThan(id, page) → db.segments.find({_id: {$gt: id}}).sort({_id: 1}).limit(n)
  */
-public interface SegmentRepository extends MongoRepository<Segment, String> {
+public interface SegmentRepository extends MongoRepository<Segment, String>, SegmentRepositoryCustom {
+
+    List<SegmentSummary> findAllBy(Pageable pageable);
+
+    List<SegmentSummary> findByIdGreaterThan(String id, Pageable pageable);
+
+    /**
+     * Tum collection'i Mongo cursor'u uzerinden tek tek okur (findAll gibi listeye doldurmaz).
+     * Stream kapatilinca cursor da kapanir, bu yuzden try-with-resources ile kullanilmali.
+     */
+    Stream<Segment> streamAllBy();
 
     List<Segment> findBySegmentType(String segmentType);
 
-    List<Segment> findByEntityStatus(String entityStatus);
+    List<SegmentSummary> findByEntityStatus(String entityStatus);
 
-    List<Segment> findBySegmentStatus(String segmentStatus);
+    List<SegmentSummary> findBySegmentStatus(String segmentStatus);
 
     Optional<Segment> findByCode(String code);
 
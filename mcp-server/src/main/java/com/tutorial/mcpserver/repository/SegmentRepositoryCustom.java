@@ -0,0 +1,16 @@
+package com.tutorial.mcpserver.repository;
+
+import com.tutorial.mcpserver.model.SegmentStats;
+
+/**
+ * SegmentRepository'ye eklenen, method isminden turetilemeyen sorgular.
+ * Implementasyon: SegmentRepositoryCustomImpl (Spring Data bu ismi otomatik bulur).
+ */
+public interface SegmentRepositoryCustom {
+
+    /**
+     * Toplam/aktif/silinmis segment sayilari, status ve type dagilimlari ile
+     * userCount ve deviceCounts toplamlarini tek round trip'te hesaplar.
+     */
+    SegmentStats aggregateStats();
+}
@@ -0,0 +1,57 @@
+package com.tutorial.mcpserver.repository;
+
+import com.tutorial.mcpserver.model.Segment;
+import com.tutorial.mcpserver.model.SegmentStats;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+
+/**
+ * getSegmentStats icin tek aggregation:
+ *
+ *   db.segments.aggregate([{ $facet: {
+ *       totals: [{ $group: { _id: null, count: { $sum: 1 }, userCount: { $sum: "$userCount" },
+ *                            android: { $sum: "$deviceCounts.android" }, ... } }],
+ *       byEntityStatus:  [{ $group: { _id: "$entityStatus",  count: { $sum: 1 } } }, ...],
+ *       bySegmentStatus: [{ $group: { _id: "$segmentStatus", count: { $sum: 1 } } }, ...],
+ *       bySegmentType:   [{ $group: { _id: "$segmentType",   count: { $sum: 1 } } }, ...]
+ *   }}])
+ *
+ * Onceki hali findAll() ile tum segmentleri Java'ya cekip userCount topluyor,
+ * her status icin de findBySegmentStatus(status).size() ile listeyi doldurup sayiyordu.
+ */
+public class SegmentRepositoryCustomImpl implements SegmentRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    public SegmentRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public SegmentStats aggregateStats() {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.facet(Aggregation.group()
+                                .count().as(FacetResults.COUNT)
+                                .sum("userCount").as("userCount")
+                                .sum("deviceCounts.android").as("android")
+                                .sum("deviceCounts.ios").as("ios")
+                                .sum("deviceCounts.total").as("devices")).as("totals")
+                        .and(FacetResults.countBy("entityStatus")).as("byEntityStatus")
+                        .and(FacetResults.countBy("segmentStatus")).as("bySegmentStatus")
+                        .and(FacetResults.countBy("segmentType")).as("bySegmentType"));
+
+        Document facets = mongoTemplate.aggregate(aggregation, Segment.class, Document.class)
+                .getUniqueMappedResult();
+
+        return new SegmentStats(
+                FacetResults.single(facets, "totals", FacetResults.COUNT),
+                FacetResults.single(facets, "totals", "userCount"),
+                FacetResults.single(facets, "totals", "android"),
+                FacetResults.single(facets, "totals", "ios"),
+                FacetResults.single(facets, "totals", "devices"),
+                FacetResults.counts(facets, "byEntityStatus"),
+                FacetResults.counts(facets, "bySegmentStatus"),
+                FacetResults.counts(facets, "bySegmentType"));
+    }
+}
@@ -1,10 +1,14 @@
 package com.tutorial.mcpserver.repository;
 
 import com.tutorial.mcpserver.model.User;
+import com.tutorial.mcpserver.model.UserSummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Spring Data MongoDB repository.
@@ -14,12 +18,36 @@ import java.util.Optional;
  *   - User  → hangi document tipiyle calisacak
  *   - String → ID'nin tipi (MongoDB ObjectId string olarak saklanir)
  *
+ * Keyset pagination (Pageable ile _id'ye gore sirali + limit):
+ *   findAllBy(page)               → db.users.find({}).sort({_id: 1}).limit(n)
+ *   findByIdGreaterThan(id, page) → db.users.find({_id: {$gt: id}}).sort({_id: 1}).limit(n)
+ *
+ * List tool'larinin kullandigi method'lar UserSummary (DTO projection) dondurur,
+ * boylece Mongo'dan sadece ekrana basilan alanlar okunur.
+ *
+ * Toplu olusturma (createUsers) icin unordered insertMany: insertUnordered() (bkz. UserRepositoryCustomImpl)
  */
-public interface UserRepository extends MongoRepository<User, String> {
+public interface UserRepository extends MongoRepository<User, String>, UserRepositoryCustom {
+
+    List<UserSummary> findAllBy(Pageable pageable);
 
-    List<User> findByDepartment(String department);
+    List<UserSummary> findByIdGreaterThan(String id, Pageable pageable);
+
+    /**
+     * Tum collection'i Mongo cursor'u uzerinden tek tek okur (findAll gibi listeye doldurmaz).
+     * Stream kapatilinca cursor da kapanir, bu yuzden try-with-resources ile kullanilmali.
+     */
+    Stream<User> streamAllBy();
+
+    List<UserSummary> findByDepartment(String department);
 
     boolean existsByEmail(String email);
 
     Optional<User> findByEmail(String email);
+
+    /**
+     * Verilen email'lerden veritabaninda olanlar, tek sorguda: db.users.find({email: {$in: [...]}})
+     * Unique email index'ini kullanir; createUsers duplicate kontrolunu boylece tek round trip'te yapar.
+     */
+    List<UserSummary> findByEmailIn(Collection<String> emails);
 }
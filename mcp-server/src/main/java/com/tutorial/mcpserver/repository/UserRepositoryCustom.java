@@ -0,0 +1,20 @@
+package com.tutorial.mcpserver.repository;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.tutorial.mcpserver.model.User;
+
+import java.util.List;
+
+/**
+ * UserRepository'ye eklenen, method isminden turetilemeyen yazma islemleri.
+ * Implementasyon: UserRepositoryCustomImpl (Spring Data bu ismi otomatik bulur).
+ */
+public interface UserRepositoryCustom {
+
+    /**
+     * Kullanicilari tek insertMany ile, sirasiz (ordered: false) yazar.
+     * Hata alan document digerlerini durdurmaz; donen liste sadece hatalardir
+     * (BulkWriteError.getIndex() → users listesindeki sira). Id'ler cagiran tarafindan atanmis olmali.
+     */
+    List<BulkWriteError> insertUnordered(List<User> users);
+}
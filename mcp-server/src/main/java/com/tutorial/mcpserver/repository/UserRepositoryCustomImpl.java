@@ -0,0 +1,53 @@
+package com.tutorial.mcpserver.repository;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.model.InsertManyOptions;
+import com.tutorial.mcpserver.model.User;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * createUsers icin toplu yazma:
+ *
+ *   db.users.insertMany([...], { ordered: false })
+ *
+ * MongoTemplate.insertAll sirali (ordered) yazar ve ilk hatada durur; burada unique email
+ * ihlali (E11000) gibi hatalar sadece ilgili document'i etkiler, geri kalanlar yazilir.
+ * Driver buyuk listeleri kendisi batch'lere boler (maxWriteBatchSize / 48MB).
+ */
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    public UserRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public List<BulkWriteError> insertUnordered(List<User> users) {
+        if (users.isEmpty()) {
+            return List.of();
+        }
+        List<Document> documents = new ArrayList<>(users.size());
+        for (User user : users) {
+            Document document = new Document();
+            mongoTemplate.getConverter().write(user, document);
+            documents.add(document);
+        }
+        try {
+            mongoTemplate.getCollection(mongoTemplate.getCollectionName(User.class))
+                    .insertMany(documents, new InsertManyOptions().ordered(false));
+            return List.of();
+        } catch (MongoBulkWriteException e) {
+            // Write concern hatasi document'a degil tum yazmaya aittir, tool hatasi olarak doner
+            if (e.getWriteConcernError() != null) {
+                throw e;
+            }
+            return e.getWriteErrors();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.tutorial.mcpserver.resource;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SegmentedStringWriter;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * Document'lari geldikce tek bir JSON array'e yazar.
+ *
+ * SYNC resource'lar Stream'den (UserResourceProvider), ASYNC resource'lar Flux'tan
+ * (ReactiveResourceProvider) okudugu document'lari buraya yazar; iki modda da bellekte
+ * sadece uretilen JSON metni ve o an yazilan tek document bulunur.
+ *
+ * MCP resource cevabi tek bir metin oldugu icin JSON'un tamami bellekte olusur; bu yuzden
+ * uretilen metin maxChars ile sinirlidir (mcp.resource.max-size). Sinir asilinca yazma durur,
+ * ResourceTooLargeException firlatilir ve cagiran stream'i (Mongo cursor'unu) kapatir.
+ * Boylece bir okumanin heap'i collection buyuklugunden bagimsiz olarak en fazla maxChars kadardir.
+ *
+ * SegmentedStringWriter, writeValueAsString'in de kullandigi segment tabanli buffer'dir;
+ * StringWriter gibi buyurken tum icerigi tekrar tekrar kopyalamaz.
+ */
+final class JsonArrayWriter implements AutoCloseable {
+
+    private final ObjectMapper objectMapper;
+    private final String uri;
+    private final long maxChars;
+    private final CountingWriter out = new CountingWriter(new SegmentedStringWriter(new BufferRecycler()));
+    private final JsonGenerator generator;
+
+    JsonArrayWriter(ObjectMapper objectMapper, String uri, long maxChars) {
+        this.objectMapper = objectMapper;
+        this.uri = uri;
+        this.maxChars = maxChars;
+        try {
+            this.generator = objectMapper.createGenerator(out);
+            generator.writeStartArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Sinir, generator'in buffer'indan writer'a gecen metin uzerinden kontrol edilir;
+     * asim en fazla generator buffer'i + bir document kadar olur.
+     */
+    void write(Object row) {
+        try {
+            objectMapper.writeValue(generator, row);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (out.count > maxChars) {
+            throw new ResourceTooLargeException(uri, maxChars);
+        }
+    }
+
+    /**
+     * Array'i kapatir ve uretilen JSON'u dondurur.
+     */
+    String finish() {
+        try {
+            generator.writeEndArray();
+            generator.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (out.count > maxChars) {
+            throw new ResourceTooLargeException(uri, maxChars);
+        }
+        return out.delegate.getAndClear();
+    }
+
+    @Override
+    public void close() {
+        try {
+            generator.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        out.delegate.getAndClear();
+    }
+
+    /**
+     * SegmentedStringWriter'a yazilan karakterleri sayar.
+     */
+    private static final class CountingWriter extends Writer {
+
+        private final SegmentedStringWriter delegate;
+        private long count;
+
+        CountingWriter(SegmentedStringWriter delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) {
+            delegate.write(chars, offset, length);
+            count += length;
+        }
+
+        @Override
+        public void write(String str, int offset, int length) {
+            delegate.write(str, offset, length);
+            count += length;
+        }
+
+        @Override
+        public void write(int c) {
+            delegate.write(c);
+            count++;
+        }
+
+        @Override
+        public void flush() {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() {
+            // Icerik finish()'te getAndClear ile alinir
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.tutorial.mcpserver.resource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tutorial.mcpserver.repository.ReactiveMessageRepository;
+import com.tutorial.mcpserver.repository.ReactiveSegmentRepository;
+import com.tutorial.mcpserver.repository.ReactiveUserRepository;
+import io.modelcontextprotocol.server.McpServerFeatures;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * UserResourceProvider'in ASYNC karsiligi (spring.ai.mcp.server.type: ASYNC).
+ *
+ * Ayni 3 resource (users://list, messages://list, segments://list) tanimlanir; document'lar
+ * reactive repository'nin streamAllBy() Flux'indan geldikce JsonArrayWriter'a yazilir.
+ * Okuma sirasinda hicbir thread Mongo cursor'unu beklerken bloklanmaz.
+ *
+ * SYNC moddaki gibi uretilen metin mcp.resource.max-size ile sinirlidir; sinir asilinca
+ * Flux iptal edilir (cursor kapanir) ve ResourceTooLargeException client'a doner.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.ai.mcp.server", name = "type", havingValue = "ASYNC")
+public class ReactiveResourceProvider {
+
+    private final long maxChars;
+
+    public ReactiveResourceProvider(@Value("${mcp.resource.max-size:16MB}") DataSize maxSize) {
+        this.maxChars = maxSize.toBytes();
+    }
+
+    @Bean
+    public List<McpServerFeatures.AsyncResourceSpecification> mcpAsyncResources(
+            ReactiveUserRepository userRepository,
+            ReactiveMessageRepository messageRepository,
+            ReactiveSegmentRepository segmentRepository,
+            ObjectMapper objectMapper) {
+
+        var usersSpec = createResourceSpec(
+                "users://list", "All Users",
+                "Returns a JSON list of all users in the database",
+                userRepository::streamAllBy, objectMapper);
+
+        var messagesSpec = createResourceSpec(
+                "messages://list", "All Messages",
+                "Returns a JSON list of all messages/campaigns in the database",
+                messageRepository::streamAllBy, objectMapper);
+
+        var segmentsSpec = createResourceSpec(
+                "segments://list", "All Segments",
+                "Returns a JSON list of all segments in the database",
+                segmentRepository::streamAllBy, objectMapper);
+
+        return List.of(usersSpec, messagesSpec, segmentsSpec);
+    }
+
+    /**
+     * Yardimci method: Her okuma icin yeni bir JsonArrayWriter acar, Flux bitince JSON'u dondurur.
+     * Mono.using, hata ya da iptal durumunda da writer'in kapanmasini garanti eder.
+     */
+    private McpServerFeatures.AsyncResourceSpecification createResourceSpec(
+            String uri, String name, String description,
+            Supplier<Flux<?>> dataSupplier, ObjectMapper objectMapper) {
+
+        var resource = new McpSchema.Resource(uri, name, description, "application/json", null);
+
+        return new McpServerFeatures.AsyncResourceSpecification(
+                resource,
+                (exchange, request) -> Mono.using(
+                                () -> new JsonArrayWriter(objectMapper, uri, maxChars),
+                                writer -> dataSupplier.get()
+                                        .doOnNext(writer::write)
+                                        .then(Mono.fromCallable(writer::finish)),
+                                JsonArrayWriter::close)
+                        .map(json -> new McpSchema.ReadResourceResult(
+                                List.of(new McpSchema.TextResourceContents(
+                                        request.uri(), "application/json", json))))
+                        .onErrorMap(e -> !(e instanceof ResourceTooLargeException), e -> new RuntimeException("Failed to read resource: " + uri, e))
+        );
+    }
+}
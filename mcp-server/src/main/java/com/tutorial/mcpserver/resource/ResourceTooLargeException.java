@@ -0,0 +1,24 @@
+package com.tutorial.mcpserver.resource;
+
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Resource'un JSON'u mcp.resource.max-size sinirini astiginda firlatilir.
+ * Client'a JSON-RPC hatasi olarak doner; mesaj ayni veriyi sayfali okuyan tool'u onerir.
+ */
+public class ResourceTooLargeException extends IllegalStateException {
+
+    public ResourceTooLargeException(String uri, long maxChars) {
+        super("Resource " + uri + " is larger than " + DataSize.ofBytes(maxChars).toMegabytes()
+                + "MB (mcp.resource.max-size); use the paged " + pagedTool(uri) + " tool instead.");
+    }
+
+    private static String pagedTool(String uri) {
+        return switch (uri) {
+            case "users://list" -> "listAllUsers";
+            case "messages://list" -> "listMessages";
+            case "segments://list" -> "listSegments";
+            default -> "list";
+        };
+    }
+}
@@ -4,12 +4,23 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tutorial.mcpserver.repository.MessageRepository;
 import com.tutorial.mcpserver.repository.SegmentRepository;
 import com.tutorial.mcpserver.repository.UserRepository;
+import com.tutorial.mcpserver.tool.McpRequestObservation;
+import com.tutorial.mcpserver.tool.ToolMetrics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.ObservationRegistry;
 import io.modelcontextprotocol.server.McpServerFeatures;
 import io.modelcontextprotocol.spec.McpSchema;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * MCP Resource tanimlari.
@@ -18,34 +29,59 @@ import java.util.List;
  *   - users://list    → Tum kullanicilar JSON
  *   - messages://list → Tum mesajlar/kampanyalar JSON
  *   - segments://list → Tum segmentler JSON
+ *
+ * JSON, repository'nin streamAllBy() cursor'undan okunan her document icin
+ * dogrudan bir JsonGenerator'a yazilir. Boylece findAll() ile tum entity listesi
+ * ve onun JSON string'i ayni anda heap'te tutulmaz; bellekte sadece uretilen
+ * JSON metni ve o an yazilan tek document bulunur.
+ *
+ * Uretilen metin mcp.resource.max-size ile sinirlidir. Collection bu siniri asarsa okuma
+ * cursor kapatilarak durdurulur ve client'a sayfali tool'u (listAllUsers, listMessages,
+ * listSegments) oneren bir hata doner (bkz. ResourceTooLargeException).
+ *
+ * Her okuma Micrometer'a yazilir (GET /actuator/prometheus):
+ *   mcp.resource.duration    (timer)   → resource (URI), outcome (success | error)
+ *   mcp.resource.result.size (summary) → resource: uretilen JSON'un byte boyutu
+ * Okuma, client'in trace'ini devam ettiren bir span icinde calisir (bkz. McpRequestObservation).
+ *
+ * Sadece SYNC modda yuklenir; ASYNC modda ayni resource'lari ReactiveResourceProvider sunar.
  */
 @Configuration
+@ConditionalOnProperty(prefix = "spring.ai.mcp.server", name = "type", havingValue = "SYNC", matchIfMissing = true)
 public class UserResourceProvider {
 
+    private final long maxChars;
+
+    public UserResourceProvider(@Value("${mcp.resource.max-size:16MB}") DataSize maxSize) {
+        this.maxChars = maxSize.toBytes();
+    }
+
     @Bean
     public List<McpServerFeatures.SyncResourceSpecification> mcpResources(
             UserRepository userRepository,
             MessageRepository messageRepository,
             SegmentRepository segmentRepository,
-            ObjectMapper objectMapper) {
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            ObservationRegistry observationRegistry) {
 
         // Resource 1: users://list
         var usersSpec = createResourceSpec(
                 "users://list", "All Users",
                 "Returns a JSON list of all users in the database",
-                () -> userRepository.findAll(), objectMapper);
+                userRepository::streamAllBy, objectMapper, meterRegistry, observationRegistry);
 
         // Resource 2: messages://list
         var messagesSpec = createResourceSpec(
                 "messages://list", "All Messages",
                 "Returns a JSON list of all messages/campaigns in the database",
-                () -> messageRepository.findAll(), objectMapper);
+                messageRepository::streamAllBy, objectMapper, meterRegistry, observationRegistry);
 
         // Resource 3: segments://list
         var segmentsSpec = createResourceSpec(
                 "segments://list", "All Segments",
                 "Returns a JSON list of all segments in the database",
-                () -> segmentRepository.findAll(), objectMapper);
+                segmentRepository::streamAllBy, objectMapper, meterRegistry, observationRegistry);
 
         return List.of(usersSpec, messagesSpec, segmentsSpec);
     }
@@ -55,27 +91,65 @@ public class UserResourceProvider {
      */
     private McpServerFeatures.SyncResourceSpecification createResourceSpec(
             String uri, String name, String description,
-            DataSupplier dataSupplier, ObjectMapper objectMapper) {
+            DataSupplier dataSupplier, ObjectMapper objectMapper,
+            MeterRegistry meterRegistry, ObservationRegistry observationRegistry) {
 
         var resource = new McpSchema.Resource(uri, name, description, "application/json", null);
+        Timer successTimer = resourceTimer(meterRegistry, uri, "success");
+        Timer errorTimer = resourceTimer(meterRegistry, uri, "error");
+        DistributionSummary resultSize = DistributionSummary.builder("mcp.resource.result.size")
+                .description("Size of MCP resource contents")
+                .baseUnit("bytes")
+                .tag("resource", uri)
+                .register(meterRegistry);
 
         return new McpServerFeatures.SyncResourceSpecification(
                 resource,
-                (exchange, request) -> {
+                (exchange, request) -> McpRequestObservation.of(
+                        "resources/read", uri, request.meta(), observationRegistry).observe(() -> {
+                    Timer.Sample sample = Timer.start(meterRegistry);
                     try {
-                        String json = objectMapper.writeValueAsString(dataSupplier.get());
+                        String json = writeJsonArray(dataSupplier.get(), objectMapper, uri, maxChars);
+                        sample.stop(successTimer);
+                        resultSize.record(ToolMetrics.utf8Length(json));
                         return new McpSchema.ReadResourceResult(
                                 List.of(new McpSchema.TextResourceContents(
                                         request.uri(), "application/json", json)));
+                    } catch (ResourceTooLargeException e) {
+                        sample.stop(errorTimer);
+                        throw e;
                     } catch (Exception e) {
+                        sample.stop(errorTimer);
                         throw new RuntimeException("Failed to read resource: " + uri, e);
                     }
-                }
+                })
         );
     }
 
+    private static Timer resourceTimer(MeterRegistry meterRegistry, String uri, String outcome) {
+        return Timer.builder("mcp.resource.duration")
+                .description("MCP resource read duration")
+                .tag("resource", uri)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Stream'deki document'lari tek tek JSON array'e yazar ve stream'i (Mongo cursor'unu) kapatir.
+     * maxChars asilirsa kalan document'lar okunmaz.
+     */
+    static String writeJsonArray(Stream<?> rows, ObjectMapper objectMapper, String uri, long maxChars) {
+        try (rows; JsonArrayWriter writer = new JsonArrayWriter(objectMapper, uri, maxChars)) {
+            Iterator<?> it = rows.iterator();
+            while (it.hasNext()) {
+                writer.write(it.next());
+            }
+            return writer.finish();
+        }
+    }
+
     @FunctionalInterface
     private interface DataSupplier {
-        Object get();
+        Stream<?> get();
     }
 }
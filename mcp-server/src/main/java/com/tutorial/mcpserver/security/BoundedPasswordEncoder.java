@@ -0,0 +1,149 @@
+package com.tutorial.mcpserver.security;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * PasswordEncoder decorator'u: BCrypt hash'lerini ayri, sinirli bir thread havuzunda hesaplar.
+ *
+ * Login firtinasinda BCrypt (bilerek yavas bir hash) request thread'lerinde calisirsa
+ * MCP tool trafigi ile CPU icin yarisir. Burada:
+ *   - En fazla "threads" hash ayni anda hesaplanir
+ *   - En fazla "queueCapacity" istek sirada bekler
+ *   - Sira doluysa istek hemen AuthenticationServiceException ile reddedilir (back-pressure)
+ *
+ * Hash sureleri (ortalama / en yuksek) cost factor'u olculen login hizina gore ayarlamak icin tutulur.
+ * Ayni degerler Micrometer'a da verilir (GET /actuator/prometheus):
+ *   mcp.security.password.hash          (timer)   → hash suresi (kuyrukta bekleme haric)
+ *   mcp.security.password.hash.active   (gauge)   → o an hesaplanan hash sayisi
+ *   mcp.security.password.hash.queued   (gauge)   → sirada bekleyen istek sayisi
+ *   mcp.security.password.hash.rejected (counter) → sira dolu oldugu icin reddedilen istekler
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final int threads;
+    private final int queueCapacity;
+
+    private final LongAdder hashes = new LongAdder();
+    private final LongAdder totalHashNanos = new LongAdder();
+    private final AtomicLong maxHashNanos = new AtomicLong();
+    private final LongAdder rejected = new LongAdder();
+    private final Timer hashTimer;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.threads = threads;
+        this.queueCapacity = queueCapacity;
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.hashTimer = Timer.builder("mcp.security.password.hash")
+                .description("Password hash (encode / matches) duration")
+                .register(meterRegistry);
+        Gauge.builder("mcp.security.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashes currently being computed")
+                .register(meterRegistry);
+        Gauge.builder("mcp.security.password.hash.queued", executor, e -> e.getQueue().size())
+                .description("Password hash requests waiting for a free hashing thread")
+                .register(meterRegistry);
+        FunctionCounter.builder("mcp.security.password.hash.rejected", rejected, LongAdder::sum)
+                .description("Password hash requests rejected because the queue was full")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public Map<String, Object> stats() {
+        long count = hashes.sum();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("threads", threads);
+        result.put("queueCapacity", queueCapacity);
+        result.put("active", executor.getActiveCount());
+        result.put("queued", executor.getQueue().size());
+        result.put("hashes", count);
+        result.put("rejected", rejected.sum());
+        result.put("avgHashMs", count == 0 ? 0.0 : totalHashNanos.sum() / 1_000_000.0 / count);
+        result.put("maxHashMs", maxHashNanos.get() / 1_000_000.0);
+        return result;
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // ── Yardimci Metodlar ──────────────────────────────────────
+
+    private <T> T submit(Callable<T> hash) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timed(hash));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new AuthenticationServiceException("Too many concurrent logins, please retry shortly.", e);
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new AuthenticationServiceException("Interrupted while checking password.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new AuthenticationServiceException("Password check failed.", e.getCause());
+        }
+    }
+
+    private <T> T timed(Callable<T> hash) throws Exception {
+        long start = System.nanoTime();
+        try {
+            return hash.call();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            hashes.increment();
+            totalHashNanos.add(elapsed);
+            hashTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            maxHashNanos.accumulateAndGet(elapsed, Math::max);
+        }
+    }
+}
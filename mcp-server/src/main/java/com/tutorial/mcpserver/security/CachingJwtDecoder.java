@@ -0,0 +1,25 @@
+package com.tutorial.mcpserver.security;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+/**
+ * JwtDecoder decorator'u: imza ve claim dogrulamasini token basina bir kez yapar,
+ * sonraki isteklerde dogrulanmis Jwt'yi JwtCache'ten verir.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final JwtCache jwtCache;
+
+    public CachingJwtDecoder(JwtDecoder delegate, JwtCache jwtCache) {
+        this.delegate = delegate;
+        this.jwtCache = jwtCache;
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        return jwtCache.get(token, delegate::decode);
+    }
+}
@@ -0,0 +1,208 @@
+package com.tutorial.mcpserver.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.nimbusds.jwt.JWTParser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Dogrulanmis JWT'lerin cache'i.
+ *
+ * MCP client'lar bir session boyunca ayni bearer token'i binlerce kez gonderir.
+ * Imza (RSA) ve claim dogrulamasi token basina bir kez yapilir, sonuc Jwt nesnesi saklanir:
+ *   - Anahtar token'in kendisi degil SHA-256 ozetidir (bellekte ham token tutulmaz)
+ *   - Her kayit token'in exp zamaninda duser (en fazla mcp.security.jwt-cache.max-ttl)
+ *   - mcp.security.jwt-cache.max-size → en fazla kac token tutulur
+ *
+ * Revocation: JWT kendi icinde gecerlidir, cache'ten silmek yetmez (tekrar decode edilince yine kabul edilir).
+ * Bu yuzden revoke edilen token (JwtRevokedEvent, bkz. TokenRevocationListener) exp zamanina kadar
+ * bir red listesinde tutulur ve get() onu BadJwtException ile reddeder. Red listesinin boyut siniri yoktur,
+ * sadece exp ile kuculur: boyut siniri olsaydi dolunca revoke edilmis token'lar listeden atilip tekrar
+ * kabul edilirdi. Liste, exp'i gecmemis revoke edilmis token sayisi kadar buyur. Sadece bu uygulamadaki
+ * /oauth2/revoke cagrilari gorulur; mcp.security.jwt.decoder=issuer ile ayri bir Authorization Server'da
+ * revoke edilen token'lar exp'e kadar gecerli kalir.
+ *
+ * Imza anahtarlari degistirilirse (JWKSource yeniden olusturulursa) evictAll() cagrilmalidir;
+ * uygulama anahtarlari startup'ta uretir ve calisirken degistirmez, bu yuzden otomatik bir tetikleyici yoktur.
+ */
+@Component
+public class JwtCache {
+
+    private final Cache<String, Jwt> cache;
+    /** Revoke edilen token ozetleri → token'in exp zamani (o zamana kadar tutulur). */
+    private final Cache<String, Instant> revoked;
+    private final boolean enabled;
+    private final AtomicLong evictions = new AtomicLong();
+
+    public JwtCache(@Value("${mcp.security.jwt-cache.enabled:true}") boolean enabled,
+                    @Value("${mcp.security.jwt-cache.max-size:10000}") long maxSize,
+                    @Value("${mcp.security.jwt-cache.max-ttl:10m}") Duration maxTtl) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(untilExpiry(maxTtl))
+                .recordStats()
+                .build();
+        this.revoked = Caffeine.newBuilder()
+                .expireAfter(untilInstant(maxTtl))
+                .build();
+    }
+
+    /**
+     * Token daha once dogrulandiysa cache'teki Jwt'yi, yoksa decoder'in sonucunu dondurur.
+     * Decoder exception firlatirsa (gecersiz imza, suresi dolmus token ...) hicbir sey cache'lenmez.
+     * Revoke edilmis token, imzasi gecerli olsa da reddedilir.
+     */
+    public Jwt get(String token, Function<String, Jwt> decoder) {
+        String digest = digest(token);
+        if (revoked.getIfPresent(digest) != null) {
+            throw new BadJwtException("Token has been revoked");
+        }
+        if (!enabled) {
+            return decoder.apply(token);
+        }
+        return cache.get(digest, key -> decoder.apply(token));
+    }
+
+    public void evict(String token) {
+        evictions.incrementAndGet();
+        cache.invalidate(digest(token));
+    }
+
+    /**
+     * Tum dogrulanmis token'lari siler; imza anahtarlari degistirildiginde elle cagrilir.
+     */
+    public void evictAll() {
+        evictions.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    @EventListener
+    public void onRevoked(JwtRevokedEvent event) {
+        revoked.put(digest(event.token()), expiresAt(event.token()));
+        evict(event.token());
+    }
+
+    public Map<String, Object> stats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", enabled);
+        result.put("size", cache.estimatedSize());
+        result.put("hits", stats.hitCount());
+        result.put("misses", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("expired", stats.evictionCount());
+        result.put("evictions", evictions.get());
+        result.put("revoked", revoked.estimatedSize());
+        return result;
+    }
+
+    // ── Yardimci Metodlar ──────────────────────────────────────
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Red listesi icin token'in exp zamani. Imza burada kontrol edilmez: sadece ne kadar tutulacagi okunur.
+     * exp okunamazsa Instant.MAX (→ maxTtl) kullanilir.
+     */
+    private static Instant expiresAt(String token) {
+        try {
+            Date exp = JWTParser.parse(token).getJWTClaimsSet().getExpirationTime();
+            return exp != null ? exp.toInstant() : Instant.MAX;
+        } catch (ParseException e) {
+            return Instant.MAX;
+        }
+    }
+
+    /**
+     * Red listesi kaydi token'in exp zamanina kadar yasar (maxTtl ile kisaltilmaz,
+     * yoksa token cache'ten dustukten sonra tekrar kabul edilirdi); exp bilinmiyorsa maxTtl.
+     */
+    private static Expiry<String, Instant> untilInstant(Duration maxTtl) {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(String key, Instant expiresAt, long currentTime) {
+                return untilExpiry(expiresAt, maxTtl);
+            }
+
+            @Override
+            public long expireAfterUpdate(String key, Instant expiresAt, long currentTime, long currentDuration) {
+                return untilExpiry(expiresAt, maxTtl);
+            }
+
+            @Override
+            public long expireAfterRead(String key, Instant expiresAt, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+
+    /**
+     * Her kaydi kendi exp zamaninda dusurur; exp yoksa veya cok uzaksa maxTtl kullanilir.
+     */
+    private static Expiry<String, Jwt> untilExpiry(Duration maxTtl) {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+                Instant expiresAt = jwt.getExpiresAt();
+                return remaining(expiresAt != null ? expiresAt : Instant.MAX, maxTtl);
+            }
+
+            @Override
+            public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+
+            @Override
+            public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+
+    private static long untilExpiry(Instant expiresAt, Duration maxTtl) {
+        if (expiresAt.equals(Instant.MAX)) {
+            return maxTtl.toNanos();
+        }
+        long seconds = Duration.between(Instant.now(), expiresAt).getSeconds() + 1;
+        return seconds <= 0 ? 0 : TimeUnit.SECONDS.toNanos(seconds);
+    }
+
+    private static long remaining(Instant expiresAt, Duration maxTtl) {
+        if (expiresAt.equals(Instant.MAX)) {
+            return maxTtl.toNanos();
+        }
+        Duration remaining = Duration.between(Instant.now(), expiresAt);
+        if (remaining.isNegative()) {
+            return 0;
+        }
+        return Math.min(remaining.toNanos(), maxTtl.toNanos());
+    }
+}
@@ -0,0 +1,9 @@
+package com.tutorial.mcpserver.security;
+
+/**
+ * Bir access token revoke edildiginde yayinlanir; JwtCache o token'i siler ve exp zamanina kadar reddeder.
+ *
+ * @param token revoke edilen ham token
+ */
+public record JwtRevokedEvent(String token) {
+}
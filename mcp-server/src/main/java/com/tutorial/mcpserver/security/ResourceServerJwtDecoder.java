@@ -0,0 +1,115 @@
+package com.tutorial.mcpserver.security;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtDecoders;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * /mcp isteklerindeki JWT'leri dogrulayan decoder.
+ *
+ * mcp.security.jwt.decoder ayarina gore:
+ *   - local  → Ayni uygulamadaki Authorization Server'in JWKSource'u ile bellekte dogrular.
+ *              Issuer URL'ine (ngrok tunnel'i) hic HTTP istegi atilmaz. (varsayilan)
+ *   - issuer → Ilk kullanimda issuer-uri uzerinden OIDC discovery + JWKS endpoint'ini kesfeder.
+ *              Resource Server ayri bir sunucuda calisacaksa kullanilir.
+ *
+ * Iki modda da issuer (iss), exp ve nbf claim'leri dogrulanir.
+ * Decoder uygulama hazir oldugunda (ApplicationReadyEvent) olusturulur, boylece ilk /mcp istegi
+ * discovery / key yukleme maliyetini odemez. Bu adim basarisiz olursa ilk istekte tekrar denenir.
+ *
+ * Uygulamadaki tek JwtDecoder bean'i budur; Boot'un varsayilan decoder'lari devre disi kalir.
+ */
+@Component
+public class ResourceServerJwtDecoder implements JwtDecoder {
+
+    private static final Logger log = LoggerFactory.getLogger(ResourceServerJwtDecoder.class);
+
+    public enum Mode { LOCAL, ISSUER }
+
+    /** Spring Authorization Server'in token imzalarken kullandigi algoritma. */
+    private static final Set<JWSAlgorithm> ALGORITHMS = Set.of(JWSAlgorithm.RS256);
+
+    private final ObjectProvider<JWKSource<SecurityContext>> jwkSource;
+    private final String issuerUri;
+    private final Mode mode;
+
+    private volatile JwtDecoder delegate;
+
+    public ResourceServerJwtDecoder(ObjectProvider<JWKSource<SecurityContext>> jwkSource,
+                                    @Value("${spring.security.oauth2.resourceserver.jwt.issuer-uri}") String issuerUri,
+                                    @Value("${mcp.security.jwt.decoder:local}") Mode mode) {
+        this.jwkSource = jwkSource;
+        this.issuerUri = issuerUri;
+        this.mode = mode;
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        return delegate().decode(token);
+    }
+
+    /**
+     * Decoder'i olusturur; local modda key set'i de bir kez okuyarak JWKSource'u isitir.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void prewarm() {
+        try {
+            delegate();
+            if (mode == Mode.LOCAL) {
+                int keys = jwkSource.getObject()
+                        .get(new JWKSelector(new JWKMatcher.Builder().build()), null)
+                        .size();
+                log.info("JWT decoder hazir (local JWKSource, {} anahtar)", keys);
+            } else {
+                log.info("JWT decoder hazir (issuer: {})", issuerUri);
+            }
+        } catch (Exception e) {
+            log.warn("JWT decoder onceden hazirlanamadi, ilk istekte tekrar denenecek: {}", e.getMessage());
+        }
+    }
+
+    private JwtDecoder delegate() {
+        JwtDecoder current = delegate;
+        if (current == null) {
+            synchronized (this) {
+                current = delegate;
+                if (current == null) {
+                    current = mode == Mode.LOCAL ? localDecoder() : JwtDecoders.fromIssuerLocation(issuerUri);
+                    delegate = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private JwtDecoder localDecoder() {
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(ALGORITHMS, jwkSource.getObject()));
+        // Claim kontrolunu Spring'in validator'lari yapar (iss, exp, nbf)
+        processor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+
+        NimbusJwtDecoder decoder = new NimbusJwtDecoder(processor);
+        decoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(issuerUri));
+        return decoder;
+    }
+}
@@ -0,0 +1,67 @@
+package com.tutorial.mcpserver.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.server.authorization.OAuth2Authorization;
+import org.springframework.security.oauth2.server.authorization.OAuth2AuthorizationService;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * /oauth2/revoke bir access token'i gercekten gecersiz kildiysa o token icin JwtRevokedEvent yayinlar.
+ *
+ * Revocation endpoint'i Security filter chain icinde cevaplanir ve zinciri devam ettirmez,
+ * bu yuzden bu filter Security'den once calisir ve sonucu sonradan kontrol eder.
+ *
+ * 200 cevabi tek basina yetmez: RFC 7009 bilinmeyen token'lar icin de 200 dondurur. Event sadece
+ * token Authorization Server'in kayitlarinda varsa ve access token'i invalidated isaretliyse yayinlanir.
+ * Baska bir client'in token'i icin istek zaten hata ile doner. Refresh token revoke edildiginde
+ * Authorization Server ayni authorization'in access token'ini da gecersiz kilar; o access token da reddedilir.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 1)
+public class TokenRevocationListener extends OncePerRequestFilter {
+
+    private static final String REVOCATION_PATH = "/oauth2/revoke";
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final OAuth2AuthorizationService authorizationService;
+
+    public TokenRevocationListener(ApplicationEventPublisher eventPublisher,
+                                   OAuth2AuthorizationService authorizationService) {
+        this.eventPublisher = eventPublisher;
+        this.authorizationService = authorizationService;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod()) || !REVOCATION_PATH.equals(request.getServletPath());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String token = request.getParameter("token");
+        filterChain.doFilter(request, response);
+        if (token == null || token.isBlank() || response.getStatus() != HttpStatus.OK.value()) {
+            return;
+        }
+        OAuth2Authorization authorization = authorizationService.findByToken(token, null);
+        if (authorization == null) {
+            return; // Bilinmeyen token: hicbir sey revoke edilmedi
+        }
+        OAuth2Authorization.Token<OAuth2AccessToken> accessToken = authorization.getAccessToken();
+        if (accessToken != null && accessToken.isInvalidated()) {
+            eventPublisher.publishEvent(new JwtRevokedEvent(accessToken.getToken().getTokenValue()));
+        }
+    }
+}
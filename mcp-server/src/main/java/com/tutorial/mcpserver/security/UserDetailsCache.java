@@ -0,0 +1,65 @@
+package com.tutorial.mcpserver.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Login sirasinda yuklenen UserDetails'lerin kisa omurlu cache'i.
+ *
+ * OAuth authorization-code akisinda ayni kullanici kisa surede birkac kez login olabilir;
+ * her seferinde userRepository.findByEmail cagirmak yerine sonuc mcp.security.user-details-cache.ttl
+ * kadar tutulur. Kullanici kaydedildiginde / silindiginde cache temizlenir (bkz. UserDetailsCacheListener).
+ *
+ * Cagirana her zaman bir kopya verilir: Spring Security basarili login'den sonra
+ * UserDetails'in sifresini siler (eraseCredentials), cache'teki nesne bundan etkilenmemeli.
+ */
+@Component
+public class UserDetailsCache {
+
+    private final Cache<String, UserDetails> cache;
+    private final boolean enabled;
+
+    public UserDetailsCache(@Value("${mcp.security.user-details-cache.enabled:true}") boolean enabled,
+                            @Value("${mcp.security.user-details-cache.max-size:10000}") long maxSize,
+                            @Value("${mcp.security.user-details-cache.ttl:60s}") Duration ttl) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Cache'te yoksa loader ile yukler. Loader exception firlatirsa (UsernameNotFoundException) cache'lenmez.
+     */
+    public UserDetails get(String username, Function<String, UserDetails> loader) {
+        UserDetails details = enabled ? cache.get(username, loader) : loader.apply(username);
+        return User.withUserDetails(details).build();
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    public Map<String, Object> stats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", enabled);
+        result.put("size", cache.estimatedSize());
+        result.put("hits", stats.hitCount());
+        result.put("misses", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        return result;
+    }
+}
@@ -0,0 +1,33 @@
+package com.tutorial.mcpserver.security;
+
+import com.tutorial.mcpserver.model.User;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * User yazmalarinda UserDetailsCache'i temizler.
+ *
+ * Delete event'inde sadece _id bulunur, update'te de eski email bilinmez; bu yuzden
+ * tek kayit yerine tum cache silinir. Kullanici yazmalari login'lere gore cok seyrektir.
+ */
+@Component
+public class UserDetailsCacheListener extends AbstractMongoEventListener<User> {
+
+    private final UserDetailsCache userDetailsCache;
+
+    public UserDetailsCacheListener(UserDetailsCache userDetailsCache) {
+        this.userDetailsCache = userDetailsCache;
+    }
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<User> event) {
+        userDetailsCache.evictAll();
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<User> event) {
+        userDetailsCache.evictAll();
+    }
+}
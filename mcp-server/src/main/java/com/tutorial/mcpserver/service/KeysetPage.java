@@ -0,0 +1,83 @@
+package com.tutorial.mcpserver.service;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * _id uzerinden keyset (cursor) pagination yardimcisi.
+ *
+ * skip/offset yerine bir onceki sayfanin son _id'si ("after" cursor'u) kullanilir:
+ *   db.users.find({_id: {$gt: after}}).sort({_id: 1}).limit(pageSize + 1)
+ *
+ * _id index'i sayesinde hangi sayfada olursak olalim Mongo sadece pageSize + 1
+ * document okur, heap'e de en fazla o kadar document alinir.
+ * Fazladan okunan 1 document sadece "sonraki sayfa var mi?" sorusu icindir.
+ *
+ * @param items      bu sayfadaki kayitlar (en fazla pageSize adet)
+ * @param nextCursor sonraki sayfa icin "after" degeri, son sayfada null
+ */
+record KeysetPage<T>(List<T> items, String nextCursor) {
+
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 500;
+
+    private static final RowTemplate FOOTER = RowTemplate.compile("  nextCursor: %s (pass as 'after' to get the next page)%n");
+
+    /**
+     * Tool parametresinden gelen pageSize'i [1, MAX_PAGE_SIZE] araligina ceker.
+     */
+    static int pageSize(Integer requested) {
+        if (requested == null || requested <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(requested, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * _id'ye gore artan sirali, pageSize + 1 kayitlik ilk sayfa istegi.
+     */
+    static Pageable request(int pageSize) {
+        return PageRequest.of(0, pageSize + 1, Sort.by(Sort.Direction.ASC, "id"));
+    }
+
+    static boolean hasCursor(String after) {
+        return after != null && !after.isBlank();
+    }
+
+    /**
+     * Cursor, bizim urettigimiz bir ObjectId olmali.
+     * Gecersiz bir string Mongo'da ObjectId ile karsilastirilamaz ve sessizce bos sonuc doner.
+     */
+    static boolean isValidCursor(String after) {
+        return !hasCursor(after) || ObjectId.isValid(after);
+    }
+
+    static String invalidCursor(String after) {
+        return "Error: Invalid cursor '" + after + "'.";
+    }
+
+    /**
+     * pageSize + 1 kayitlik sorgu sonucunu sayfaya cevirir.
+     */
+    static <T> KeysetPage<T> of(List<T> fetched, int pageSize, Function<T, String> idOf) {
+        if (fetched.size() <= pageSize) {
+            return new KeysetPage<>(fetched, null);
+        }
+        List<T> items = fetched.subList(0, pageSize);
+        return new KeysetPage<>(items, idOf.apply(items.get(pageSize - 1)));
+    }
+
+    /**
+     * Liste ciktisinin sonuna sonraki sayfa bilgisini ekler.
+     */
+    static void appendFooter(StringBuilder sb, String nextCursor) {
+        if (nextCursor != null) {
+            FOOTER.writer(sb).text(nextCursor).end();
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package com.tutorial.mcpserver.service;
 
 import com.tutorial.mcpserver.model.Message;
+import com.tutorial.mcpserver.model.MessageStats;
+import com.tutorial.mcpserver.model.MessageSummary;
 import com.tutorial.mcpserver.repository.MessageRepository;
+import com.tutorial.mcpserver.stats.StatsCounters;
 import org.springframework.ai.tool.annotation.Tool;
 import org.springframework.ai.tool.annotation.ToolParam;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Message (Kampanya/Bildirim) MCP Tool'lari.
@@ -19,134 +23,244 @@ import java.util.List;
  * - Kampanya durumu sorgulama
  * - Kampanya istatistikleri cekme
  * gibi islemler icin kullanilabilir.
+ *
+ * Tool'lar tipli sonuc record'lari dondurur (MessagePage, MessageFound ...), bkz. ToolOutput.
  */
 @Service
 public class MessageService {
 
     private final MessageRepository messageRepository;
+    private final StatsCounters statsCounters;
 
-    public MessageService(MessageRepository messageRepository) {
+    public MessageService(MessageRepository messageRepository, StatsCounters statsCounters) {
         this.messageRepository = messageRepository;
+        this.statsCounters = statsCounters;
     }
 
-    @Tool(description = "Lists all messages/campaigns in the database with summary info: id, type, title, status, and target audience count.")
-    public String listMessages() {
-        List<Message> messages = messageRepository.findAll();
-        if (messages.isEmpty()) {
-            return "No messages found in the database.";
-        }
-        StringBuilder sb = new StringBuilder("Messages in database:\n");
-        for (Message msg : messages) {
-            sb.append(String.format("  [%s] %-10s | %-25s | %-10s | audience: %d%n",
-                    msg.getId(), msg.getMsgType(), msg.getTitle(), msg.getSendStatus(), msg.getTargetAudience()));
+    @Tool(description = "Lists messages/campaigns page by page, ordered by id, with summary info: id, type, title, status, and target audience count. Returns a nextCursor when more messages are available.")
+    public MessagePage listMessages(
+            @ToolParam(description = "Maximum number of messages to return (default 50, max 500)", required = false) Integer pageSize,
+            @ToolParam(description = "nextCursor value from the previous page; omit to start from the first page", required = false) String after) {
+        if (!KeysetPage.isValidCursor(after)) {
+            throw new IllegalArgumentException(KeysetPage.invalidCursor(after));
         }
-        return sb.toString();
+        int size = KeysetPage.pageSize(pageSize);
+        List<MessageSummary> messages = KeysetPage.hasCursor(after)
+                ? messageRepository.findByIdGreaterThan(after, KeysetPage.request(size))
+                : messageRepository.findAllBy(KeysetPage.request(size));
+        return MessagePage.of(KeysetPage.of(messages, size, MessageSummary::id), after);
     }
 
     @Tool(description = "Gets detailed information about a specific message/campaign by its ID.")
-    public String getMessageById(
+    public MessageFound getMessageById(
             @ToolParam(description = "The MongoDB ObjectId of the message") String messageId) {
         return messageRepository.findById(messageId)
-                .map(msg -> String.format(
-                        "Message Details:\n" +
-                        "  ID: %s\n" +
-                        "  Type: %s\n" +
-                        "  Method: %s\n" +
-                        "  Title: %s\n" +
-                        "  Content: %s\n" +
-                        "  Status: %s\n" +
-                        "  Style: %s\n" +
-                        "  Platforms: %s\n" +
-                        "  Creator: %s\n" +
-                        "  Schedule: %s\n" +
-                        "  Target Audience: %d\n" +
-                        "  Target User: %d\n" +
-                        "  Created: %s",
-                        msg.getId(), msg.getMsgType(), msg.getMsgMethod(),
-                        msg.getTitle(), msg.getMessage(), msg.getSendStatus(),
-                        msg.getCampaignStyle(),
-                        msg.getPlatforms() != null ? String.join(", ", msg.getPlatforms()) : "N/A",
-                        msg.getCreator(),
-                        msg.getSchedule() != null ? msg.getSchedule().getType() : "N/A",
-                        msg.getTargetAudience(), msg.getTargetUser(),
-                        msg.getCreateDate()))
-                .orElse("Message with ID " + messageId + " not found.");
+                .map(MessageFound::new)
+                .orElseThrow(() -> new IllegalArgumentException(messageNotFound(messageId)));
     }
 
     @Tool(description = "Finds messages by their type. Valid types: PUSH, EMAIL, SMS, WEB_PUSH, IN_APP")
-    public String findMessagesByType(
+    public MessagesByType findMessagesByType(
             @ToolParam(description = "Message type to filter by: PUSH, EMAIL, SMS, WEB_PUSH, or IN_APP") String msgType) {
-        List<Message> messages = messageRepository.findByMsgType(msgType.toUpperCase());
-        if (messages.isEmpty()) {
-            return "No messages found with type: " + msgType;
-        }
-        StringBuilder sb = new StringBuilder(msgType + " messages:\n");
-        for (Message msg : messages) {
-            sb.append(String.format("  [%s] %-25s | %-10s | audience: %d%n",
-                    msg.getId(), msg.getTitle(), msg.getSendStatus(), msg.getTargetAudience()));
-        }
-        return sb.toString();
+        return new MessagesByType(msgType, messageRepository.findByMsgType(msgType.toUpperCase()));
     }
 
     @Tool(description = "Finds messages by their send status. Valid statuses: DRAFT, FINISHED, STOPPED, DELETED")
-    public String findMessagesByStatus(
+    public MessagesByStatus findMessagesByStatus(
             @ToolParam(description = "Send status to filter by: DRAFT, FINISHED, STOPPED, or DELETED") String sendStatus) {
-        List<Message> messages = messageRepository.findBySendStatus(sendStatus.toUpperCase());
-        if (messages.isEmpty()) {
-            return "No messages found with status: " + sendStatus;
-        }
-        StringBuilder sb = new StringBuilder("Messages with status " + sendStatus + ":\n");
-        for (Message msg : messages) {
-            sb.append(String.format("  [%s] %-10s | %-25s | audience: %d%n",
-                    msg.getId(), msg.getMsgType(), msg.getTitle(), msg.getTargetAudience()));
-        }
-        return sb.toString();
+        return new MessagesByStatus(sendStatus, messageRepository.findBySendStatus(sendStatus.toUpperCase()));
     }
 
     @Tool(description = "Creates a new message/campaign. Requires type, title, message content, and platforms.")
-    public String createMessage(
+    public MessageCreated createMessage(
             @ToolParam(description = "Message type: PUSH, EMAIL, SMS, WEB_PUSH, or IN_APP") String msgType,
             @ToolParam(description = "Title of the message/campaign") String title,
             @ToolParam(description = "Message content/body") String messageContent,
             @ToolParam(description = "Comma-separated platforms: ANDROID,IOS,CHROME,FIREFOX") String platforms) {
+        Message saved = messageRepository.save(newDraft(msgType, title, messageContent, platforms));
+        return new MessageCreated(saved);
+    }
+
+    @Tool(description = "Returns statistics about messages: total count and counts by type, status, method, and platform.")
+    public MessageStatistics getMessageStats() {
+        // Bellekteki sayaclardan okunur, Mongo'ya gidilmez (bkz. StatsCounters)
+        return new MessageStatistics(statsCounters.messageStats());
+    }
+
+    // ── Tool sonuclari ─────────────────────────────────────────
+    // MCP'ye structuredContent olarak gider; metin sadece client isterse uretilir (bkz. ToolOutput).
+
+    public record MessagePage(List<MessageSummary> messages, String after, String nextCursor) implements ToolOutput {
+
+        static MessagePage of(KeysetPage<MessageSummary> page, String after) {
+            return new MessagePage(page.items(), after, page.nextCursor());
+        }
+
+        @Override
+        public String toText() {
+            return renderMessagePage(this);
+        }
+    }
+
+    public record MessageFound(Message message) implements ToolOutput {
+
+        @Override
+        public String toText() {
+            return renderMessage(message);
+        }
+    }
+
+    public record MessagesByType(String msgType, List<MessageSummary> messages) implements ToolOutput {
+
+        @Override
+        public String toText() {
+            return renderByType(msgType, messages);
+        }
+    }
+
+    public record MessagesByStatus(String sendStatus, List<MessageSummary> messages) implements ToolOutput {
+
+        @Override
+        public String toText() {
+            return renderByStatus(sendStatus, messages);
+        }
+    }
+
+    public record MessageCreated(Message message) implements ToolOutput {
+
+        @Override
+        public String toText() {
+            return renderCreatedMessage(message);
+        }
+    }
+
+    public record MessageStatistics(MessageStats stats) implements ToolOutput {
+
+        @Override
+        public String toText() {
+            return renderStats(stats);
+        }
+    }
+
+    // ── Cikti metinleri ────────────────────────────────────────
+    // SYNC (bu sinif) ve ASYNC (ReactiveMessageService) tool'lari ayni metni uretir.
+    // Liste satirlari onceden derlenmis RowTemplate'lerle yazilir (String.format yerine).
+
+    private static final RowTemplate PAGE_ROW = RowTemplate.compile("  [%s] %-10s | %-25s | %-10s | audience: %d%n");
+    private static final RowTemplate TYPE_ROW = RowTemplate.compile("  [%s] %-25s | %-10s | audience: %d%n");
+    private static final RowTemplate STATUS_ROW = RowTemplate.compile("  [%s] %-10s | %-25s | audience: %d%n");
+    private static final RowTemplate COUNT_ROW = RowTemplate.compile("    %-10s : %d%n");
+
+    static Message newDraft(String msgType, String title, String messageContent, String platforms) {
         List<String> platformList = List.of(platforms.toUpperCase().split(","));
-        Message msg = new Message(
+        return new Message(
                 msgType.toUpperCase(), "CAMPAIGN", title, messageContent,
                 "DRAFT", platformList, "MCP-Client",
                 "TEXT", 0, 0,
                 new Message.Schedule("NOW", null)
         );
-        Message saved = messageRepository.save(msg);
+    }
+
+    static String renderMessagePage(MessagePage page) {
+        if (page.messages().isEmpty()) {
+            return KeysetPage.hasCursor(page.after())
+                    ? "No more messages after cursor " + page.after() + "."
+                    : "No messages found in the database.";
+        }
+        StringBuilder sb = new StringBuilder(PAGE_ROW.capacityFor(page.messages().size() + 1));
+        sb.append("Messages in database:\n");
+        RowTemplate.Row row = PAGE_ROW.writer(sb);
+        for (MessageSummary msg : page.messages()) {
+            row.text(msg.id()).text(msg.msgType()).text(msg.title()).text(msg.sendStatus())
+                    .number(msg.targetAudience()).end();
+        }
+        KeysetPage.appendFooter(sb, page.nextCursor());
+        return sb.toString();
+    }
+
+    static String renderMessage(Message msg) {
+        return String.format(
+                "Message Details:\n" +
+                "  ID: %s\n" +
+                "  Type: %s\n" +
+                "  Method: %s\n" +
+                "  Title: %s\n" +
+                "  Content: %s\n" +
+                "  Status: %s\n" +
+                "  Style: %s\n" +
+                "  Platforms: %s\n" +
+                "  Creator: %s\n" +
+                "  Schedule: %s\n" +
+                "  Target Audience: %d\n" +
+                "  Target User: %d\n" +
+                "  Created: %s",
+                msg.getId(), msg.getMsgType(), msg.getMsgMethod(),
+                msg.getTitle(), msg.getMessage(), msg.getSendStatus(),
+                msg.getCampaignStyle(),
+                msg.getPlatforms() != null ? String.join(", ", msg.getPlatforms()) : "N/A",
+                msg.getCreator(),
+                msg.getSchedule() != null ? msg.getSchedule().getType() : "N/A",
+                msg.getTargetAudience(), msg.getTargetUser(),
+                msg.getCreateDate());
+    }
+
+    static String messageNotFound(String messageId) {
+        return "Message with ID " + messageId + " not found.";
+    }
+
+    static String renderByType(String msgType, List<MessageSummary> messages) {
+        if (messages.isEmpty()) {
+            return "No messages found with type: " + msgType;
+        }
+        StringBuilder sb = new StringBuilder(TYPE_ROW.capacityFor(messages.size() + 1));
+        sb.append(msgType).append(" messages:\n");
+        RowTemplate.Row row = TYPE_ROW.writer(sb);
+        for (MessageSummary msg : messages) {
+            row.text(msg.id()).text(msg.title()).text(msg.sendStatus()).number(msg.targetAudience()).end();
+        }
+        return sb.toString();
+    }
+
+    static String renderByStatus(String sendStatus, List<MessageSummary> messages) {
+        if (messages.isEmpty()) {
+            return "No messages found with status: " + sendStatus;
+        }
+        StringBuilder sb = new StringBuilder(STATUS_ROW.capacityFor(messages.size() + 1));
+        sb.append("Messages with status ").append(sendStatus).append(":\n");
+        RowTemplate.Row row = STATUS_ROW.writer(sb);
+        for (MessageSummary msg : messages) {
+            row.text(msg.id()).text(msg.msgType()).text(msg.title()).number(msg.targetAudience()).end();
+        }
+        return sb.toString();
+    }
+
+    static String renderCreatedMessage(Message saved) {
         return String.format("Message created: [%s] %s | %s | status: DRAFT",
                 saved.getId(), saved.getMsgType(), saved.getTitle());
     }
 
-    @Tool(description = "Returns statistics about messages: count by type and count by status.")
-    public String getMessageStats() {
-        long total = messageRepository.count();
-        if (total == 0) {
+    static String renderStats(MessageStats stats) {
+        if (stats.total() == 0) {
             return "No messages in the database.";
         }
 
         StringBuilder sb = new StringBuilder("Message Statistics:\n");
-        sb.append(String.format("  Total messages: %d%n%n", total));
-
-        sb.append("  By Type:\n");
-        for (String type : List.of("PUSH", "EMAIL", "SMS", "WEB_PUSH", "IN_APP")) {
-            long count = messageRepository.countByMsgType(type);
-            if (count > 0) {
-                sb.append(String.format("    %-10s : %d%n", type, count));
-            }
-        }
+        sb.append(String.format("  Total messages: %d%n%n", stats.total()));
 
-        sb.append("\n  By Status:\n");
-        for (String status : List.of("DRAFT", "FINISHED", "STOPPED", "DELETED")) {
-            long count = messageRepository.countBySendStatus(status);
-            if (count > 0) {
-                sb.append(String.format("    %-10s : %d%n", status, count));
-            }
-        }
+        appendCounts(sb, "By Type", stats.byType());
+        sb.append('\n');
+        appendCounts(sb, "By Status", stats.byStatus());
+        sb.append('\n');
+        appendCounts(sb, "By Method", stats.byMethod());
+        sb.append('\n');
+        appendCounts(sb, "By Platform", stats.byPlatform());
 
         return sb.toString();
     }
+
+    private static void appendCounts(StringBuilder sb, String title, Map<String, Long> counts) {
+        sb.append("  ").append(title).append(":\n");
+        RowTemplate.Row row = COUNT_ROW.writer(sb);
+        counts.forEach((key, count) -> row.text(key).number(count).end());
+    }
 }
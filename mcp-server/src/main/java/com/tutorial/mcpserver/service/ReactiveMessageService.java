@@ -0,0 +1,91 @@
+package com.tutorial.mcpserver.service;
+
+import com.tutorial.mcpserver.model.MessageSummary;
+import com.tutorial.mcpserver.repository.ReactiveMessageRepository;
+import com.tutorial.mcpserver.stats.StatsCounters;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.springaicommunity.mcp.annotation.McpTool;
+import org.springaicommunity.mcp.annotation.McpToolParam;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * MessageService tool'larinin ASYNC karsiligi (spring.ai.mcp.server.type: ASYNC).
+ *
+ * Mongo'ya ReactiveMessageRepository ile gidilir; tool sonuclari MessageService ile aynidir.
+ * getMessageStats zaten bellekteki sayaclardan okundugu icin Mongo'ya hic gitmez.
+ */
+@Service
+@ConditionalOnProperty(prefix = "spring.ai.mcp.server", name = "type", havingValue = "ASYNC")
+public class ReactiveMessageService {
+
+    private final ReactiveMessageRepository messageRepository;
+    private final StatsCounters statsCounters;
+
+    public ReactiveMessageService(ReactiveMessageRepository messageRepository, StatsCounters statsCounters) {
+        this.messageRepository = messageRepository;
+        this.statsCounters = statsCounters;
+    }
+
+    @McpTool(name = "listMessages", description = "Lists messages/campaigns page by page, ordered by id, with summary info: id, type, title, status, and target audience count. Returns a nextCursor when more messages are available.")
+    public Mono<McpSchema.CallToolResult> listMessages(
+            McpSchema.CallToolRequest request,
+            @McpToolParam(description = "Maximum number of messages to return (default 50, max 500)", required = false) Integer pageSize,
+            @McpToolParam(description = "nextCursor value from the previous page; omit to start from the first page", required = false) String after) {
+        if (!KeysetPage.isValidCursor(after)) {
+            return Mono.just(ToolResults.error(KeysetPage.invalidCursor(after)));
+        }
+        int size = KeysetPage.pageSize(pageSize);
+        Flux<MessageSummary> messages = KeysetPage.hasCursor(after)
+                ? messageRepository.findByIdGreaterThan(after, KeysetPage.request(size))
+                : messageRepository.findAllBy(KeysetPage.request(size));
+        return messages.collectList()
+                .map(list -> ToolResults.of(MessageService.MessagePage.of(KeysetPage.of(list, size, MessageSummary::id), after), request));
+    }
+
+    @McpTool(name = "getMessageById", description = "Gets detailed information about a specific message/campaign by its ID.")
+    public Mono<McpSchema.CallToolResult> getMessageById(
+            McpSchema.CallToolRequest request,
+            @McpToolParam(description = "The MongoDB ObjectId of the message") String messageId) {
+        return messageRepository.findById(messageId)
+                .map(message -> ToolResults.of(new MessageService.MessageFound(message), request))
+                .defaultIfEmpty(ToolResults.error(MessageService.messageNotFound(messageId)));
+    }
+
+    @McpTool(name = "findMessagesByType", description = "Finds messages by their type. Valid types: PUSH, EMAIL, SMS, WEB_PUSH, IN_APP")
+    public Mono<McpSchema.CallToolResult> findMessagesByType(
+            McpSchema.CallToolRequest request,
+            @McpToolParam(description = "Message type to filter by: PUSH, EMAIL, SMS, WEB_PUSH, or IN_APP") String msgType) {
+        return messageRepository.findByMsgType(msgType.toUpperCase())
+                .collectList()
+                .map(messages -> ToolResults.of(new MessageService.MessagesByType(msgType, messages), request));
+    }
+
+    @McpTool(name = "findMessagesByStatus", description = "Finds messages by their send status. Valid statuses: DRAFT, FINISHED, STOPPED, DELETED")
+    public Mono<McpSchema.CallToolResult> findMessagesByStatus(
+            McpSchema.CallToolRequest request,
+            @McpToolParam(description = "Send status to filter by: DRAFT, FINISHED, STOPPED, or DELETED") String sendStatus) {
+        return messageRepository.findBySendStatus(sendStatus.toUpperCase())
+                .collectList()
+                .map(messages -> ToolResults.of(new MessageService.MessagesByStatus(sendStatus, messages), request));
+    }
+
+    @McpTool(name = "createMessage", description = "Creates a new message/campaign. Requires type, title, message content, and platforms.")
+    public Mono<McpSchema.CallToolResult> createMessage(
+            McpSchema.CallToolRequest request,
+            @McpToolParam(description = "Message type: PUSH, EMAIL, SMS, WEB_PUSH, or IN_APP") String msgType,
+            @McpToolParam(description = "Title of the message/campaign") String title,
+            @McpToolParam(description = "Message content/body") String messageContent,
+            @McpToolParam(description = "Comma-separated platforms: ANDROID,IOS,CHROME,FIREFOX") String platforms) {
+        return Mono.fromSupplier(() -> MessageService.newDraft(msgType, title, messageContent, platforms))
+                .flatMap(messageRepository::save)
+                .map(saved -> ToolResults.of(new MessageService.MessageCreated(saved), request));
+    }
+
+    @McpTool(name = "getMessageStats", description = "Returns statistics about messages: total count and counts by type, status, method, and platform.")
+    public Mono<McpSchema.CallToolResult> getMessageStats(McpSchema.CallToolRequest request) {
+        return Mono.fromSupplier(() -> ToolResults.of(new MessageService.MessageStatistics(statsCounters.messageStats()), request));
+    }
+}
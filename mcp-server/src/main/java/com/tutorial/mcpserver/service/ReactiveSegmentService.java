@@ -0,0 +1,77 @@
+package com.tutorial.mcpserver.service;
+
+import com.tutorial.mcpserver.model.SegmentSummary;
+import com.tutorial.mcpserver.repository.ReactiveSegmentRepository;
+import com.tutorial.mcpserver.stats.StatsCounters;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.springaicommunity.mcp.annotation.McpTool;
+import org.springaicommunity.mcp.annotation.McpToolParam;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * SegmentService tool'larinin ASYNC karsiligi (spring.ai.mcp.server.type: ASYNC).
+ *
+ * Mongo'ya ReactiveSegmentRepository ile gidilir; tool sonuclari SegmentService ile aynidir.
+ * getSegmentStats zaten bellekteki sayaclardan okundugu icin Mongo'ya hic gitmez.
+ */
+@Service
+@ConditionalOnProperty(prefix = "spring.ai.mcp.server", name = "type", havingValue = "ASYNC")
+public class ReactiveSegmentService {
+
+    private final ReactiveSegmentRepository segmentRepository;
+    private final StatsCounters statsCounters;
+
+    public ReactiveSegmentService(ReactiveSegmentRepository segmentRepository, StatsCounters statsCounters) {
+        this.segmentRepository = segmentRepository;
+        this.statsCounters = statsCounters;
+    }
+
+    @McpTool(name = "listSegments", description = "Lists segments page by page, ordered by id, with summary info: code, name, type, status, and user count. Returns a nextCursor when more segments are available.")
+    public Mono<McpSchema.CallToolResult> listSegments(
+            McpSchema.CallToolRequest request,
+            @McpToolParam(description = "Maximum number of segments to return (default 50, max 500)", required = false) Integer pageSize,
+            @McpToolParam(description = "nextCursor value from the previous page; omit to start from the first page", required = false) String after) {
+        if (!KeysetPage.isValidCursor(after)) {
+            return Mono.just(ToolResults.error(KeysetPage.invalidCursor(after)));
+        }
+        int size = KeysetPage.pageSize(pageSize);
+        Flux<SegmentSummary> segments = KeysetPage.hasCursor(after)
+                ? segmentRepository.findByIdGreaterThan(after, KeysetPage.request(size))
+                : segmentRepository.findAllBy(KeysetPage.request(size));
+        return segments.collectList()
+                .map(list -> ToolResults.of(SegmentService.SegmentPage.of(KeysetPage.of(list, size, SegmentSummary::id), after), request));
+    }
+
+    @McpTool(name = "getSegmentByCode", description = "Gets detailed information about a segment by its unique code (5-character code like 'svysw').")
+    public Mono<McpSchema.CallToolResult> getSegmentByCode(
+            McpSchema.CallToolRequest request,
+            @McpToolParam(description = "The unique 5-character segment code") String code) {
+        return segmentRepository.findByCode(code)
+                .map(segment -> ToolResults.of(new SegmentService.SegmentFound(segment), request))
+                .defaultIfEmpty(ToolResults.error(SegmentService.segmentNotFound(code)));
+    }
+
+    @McpTool(name = "findSegmentsByStatus", description = "Finds segments by their calculation status. Valid statuses: READY, WAITING_CALCULATE, WAITING_DELETED")
+    public Mono<McpSchema.CallToolResult> findSegmentsByStatus(
+            McpSchema.CallToolRequest request,
+            @McpToolParam(description = "Segment status: READY, WAITING_CALCULATE, or WAITING_DELETED") String segmentStatus) {
+        return segmentRepository.findBySegmentStatus(segmentStatus.toUpperCase())
+                .collectList()
+                .map(segments -> ToolResults.of(new SegmentService.SegmentsByStatus(segmentStatus, segments), request));
+    }
+
+    @McpTool(name = "findActiveSegments", description = "Lists only active segments (entityStatus = ACTIVE). Filters out deleted segments.")
+    public Mono<McpSchema.CallToolResult> findActiveSegments(McpSchema.CallToolRequest request) {
+        return segmentRepository.findByEntityStatus("ACTIVE")
+                .collectList()
+                .map(segments -> ToolResults.of(new SegmentService.ActiveSegments(segments), request));
+    }
+
+    @McpTool(name = "getSegmentStats", description = "Returns statistics about segments: counts by status and type, active/deleted counts, total user reach, and device reach.")
+    public Mono<McpSchema.CallToolResult> getSegmentStats(McpSchema.CallToolRequest request) {
+        return Mono.fromSupplier(() -> ToolResults.of(new SegmentService.SegmentStatistics(statsCounters.segmentStats()), request));
+    }
+}
@@ -0,0 +1,111 @@
+package com.tutorial.mcpserver.service;
+
+import com.tutorial.mcpserver.model.User;
+import com.tutorial.mcpserver.model.UserSummary;
+import com.tutorial.mcpserver.repository.ReactiveUserRepository;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.springaicommunity.mcp.annotation.McpTool;
+import org.springaicommunity.mcp.annotation.McpToolParam;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * UserService tool'larinin ASYNC karsiligi (spring.ai.mcp.server.type: ASYNC).
+ *
+ * Tool isimleri, parametreleri ve sonuclari UserService ile aynidir; client hangi
+ * modda calisildigini fark etmez. Fark, Mongo'ya ReactiveUserRepository ile gidilmesi
+ * ve sonucun Mono olarak donmesidir: cagri Mongo cevabini beklerken hicbir thread
+ * bloklanmaz, binlerce es zamanli session kucuk bir event-loop havuzunu paylasir.
+ *
+ * @McpTool method'lari Spring AI'in annotation scanner'i tarafindan async tool olarak kaydedilir.
+ * CallToolRequest parametresi MCP tarafindan doldurulur (tool semasina girmez); _meta'da
+ * metin istenip istenmedigi oradan okunur (bkz. ToolOutput).
+ */
+@Service
+@ConditionalOnProperty(prefix = "spring.ai.mcp.server", name = "type", havingValue = "ASYNC")
+public class ReactiveUserService {
+
+    private final ReactiveUserRepository userRepository;
+
+    public ReactiveUserService(ReactiveUserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @McpTool(name = "listAllUsers", description = "Lists users in the database page by page, ordered by id. Returns each user's id, name, email, and department, plus a nextCursor when more users are available.")
+    public Mono<McpSchema.CallToolResult> listAllUsers(
+            McpSchema.CallToolRequest request,
+            @McpToolParam(description = "Maximum number of users to return (default 50, max 500)", required = false) Integer pageSize,
+            @McpToolParam(description = "nextCursor value from the previous page; omit to start from the first page", required = false) String after) {
+        if (!KeysetPage.isValidCursor(after)) {
+            return Mono.just(ToolResults.error(KeysetPage.invalidCursor(after)));
+        }
+        int size = KeysetPage.pageSize(pageSize);
+        Flux<UserSummary> users = KeysetPage.hasCursor(after)
+                ? userRepository.findByIdGreaterThan(after, KeysetPage.request(size))
+                : userRepository.findAllBy(KeysetPage.request(size));
+        return users.collectList()
+                .map(list -> ToolResults.of(UserService.UserPage.of(KeysetPage.of(list, size, UserSummary::id), after), request));
+    }
+
+    @McpTool(name = "getUserById", description = "Gets a specific user by their ID. Returns user details or a not-found message.")
+    public Mono<McpSchema.CallToolResult> getUserById(
+            McpSchema.CallToolRequest request,
+            @McpToolParam(description = "The unique ID of the user to retrieve (MongoDB ObjectId string)") String userId) {
+        return userRepository.findById(userId)
+                .map(user -> ToolResults.of(new UserService.UserFound(UserSummary.of(user)), request))
+                .defaultIfEmpty(ToolResults.error(UserService.userNotFound(userId)));
+    }
+
+    @McpTool(name = "createUser", description = "Creates a new user in the database. Requires name, email, and department. Returns the created user's information.")
+    public Mono<McpSchema.CallToolResult> createUser(
+            McpSchema.CallToolRequest request,
+            @McpToolParam(description = "Full name of the user") String name,
+            @McpToolParam(description = "Email address of the user (must be unique)") String email,
+            @McpToolParam(description = "Department the user belongs to") String department) {
+        return userRepository.existsByEmail(email)
+                .flatMap(exists -> exists
+                        ? Mono.just(ToolResults.error(UserService.duplicateEmail(email)))
+                        : userRepository.save(new User(name, email, department))
+                                .map(saved -> ToolResults.of(new UserService.UserCreated(UserSummary.of(saved)), request)));
+    }
+
+    @McpTool(name = "createUsers", description = "Creates many users in one call (max 5000). Each user needs name, email, and department; emails must be unique. Users whose email already exists or repeats in the request are skipped. Returns an outcome for every user in request order: CREATED with the new id, DUPLICATE, INVALID, or FAILED.")
+    public Mono<McpSchema.CallToolResult> createUsers(
+            McpSchema.CallToolRequest request,
+            @McpToolParam(description = "Users to create, each with name, email, and department") List<UserService.NewUser> users) {
+        if (!UserBatch.isValidSize(users)) {
+            return Mono.just(ToolResults.error(UserBatch.invalidSize(users)));
+        }
+        UserBatch batch = new UserBatch(users);
+        Mono<List<UserSummary>> existing = batch.emails().isEmpty()
+                ? Mono.just(List.of())
+                : userRepository.findByEmailIn(batch.emails()).collectList();
+        return existing
+                .flatMap(found -> userRepository.insertUnordered(batch.usersToInsert(found)))
+                .map(errors -> ToolResults.of(batch.result(errors), request));
+    }
+
+    @McpTool(name = "deleteUser", description = "Deletes a user from the database by their ID. Returns confirmation or error message.")
+    public Mono<McpSchema.CallToolResult> deleteUser(
+            McpSchema.CallToolRequest request,
+            @McpToolParam(description = "The unique ID of the user to delete (MongoDB ObjectId string)") String userId) {
+        return userRepository.existsById(userId)
+                .flatMap(exists -> exists
+                        ? userRepository.deleteById(userId)
+                                .thenReturn(ToolResults.of(new UserService.UserDeleted(userId), request))
+                        : Mono.just(ToolResults.error(UserService.deleteNotFound(userId))));
+    }
+
+    @McpTool(name = "findUsersByDepartment", description = "Finds all users belonging to a specific department. Returns matching users or a message if none found.")
+    public Mono<McpSchema.CallToolResult> findUsersByDepartment(
+            McpSchema.CallToolRequest request,
+            @McpToolParam(description = "The department name to search for") String department) {
+        return userRepository.findByDepartment(department)
+                .collectList()
+                .map(users -> ToolResults.of(new UserService.DepartmentUsers(department, users), request));
+    }
+}
@@ -0,0 +1,247 @@
+package com.tutorial.mcpserver.service;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Tool ciktisindaki satirlar icin onceden derlenmis (precompiled) format sablonu.
+ *
+ * String.format her satirda format string'ini tekrar parse eder, bir Formatter olusturur
+ * ve int'leri box'lar. Liste tool'lari yuzlerce satir urettigi icin CPU suresinin cogu
+ * formatlamaya gider. RowTemplate pattern'i bir kez parse eder, satirlari dogrudan
+ * cagiranin StringBuilder'ina yazar:
+ *
+ *   static final RowTemplate ROW = RowTemplate.compile("  [%s] %-10s | audience: %d%n");
+ *
+ *   RowTemplate.Row row = ROW.writer(sb);
+ *   for (...) {
+ *       row.text(id).text(type).number(audience).end();
+ *   }
+ *
+ * Cikti String.format ile byte byte aynidir. Desteklenen ifadeler:
+ *   %s, %-Ns, %Ns → String.valueOf, N karaktere bosluklarla tamamlanir (kesilmez)
+ *   %d, %,d       → varsayilan FORMAT locale'inin gruplama ayraci ile (Turkce: 12.500)
+ *   %n, %%        → System.lineSeparator(), '%'
+ * Locale ASCII disi rakam kullaniyorsa (ornek: arapca) sayilar String.format'a birakilir.
+ */
+final class RowTemplate {
+
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    /** Genisligi olmayan %s alanlari icin satir boyu tahmini (ObjectId = 24 karakter). */
+    private static final int UNPADDED_ESTIMATE = 24;
+
+    private static volatile Digits digits = Digits.of(Locale.getDefault(Locale.Category.FORMAT));
+
+    private final String pattern;
+    /** literals[i] i. alandan once, literals[fields] satirin sonunda yazilir. */
+    private final String[] literals;
+    private final Field[] fields;
+    private final int estimatedRowLength;
+
+    private RowTemplate(String pattern, List<String> literals, List<Field> fields) {
+        this.pattern = pattern;
+        this.literals = literals.toArray(String[]::new);
+        this.fields = fields.toArray(Field[]::new);
+        int estimate = 0;
+        for (String literal : this.literals) {
+            estimate += literal.length();
+        }
+        for (Field field : this.fields) {
+            estimate += Math.max(field.width(), UNPADDED_ESTIMATE);
+        }
+        this.estimatedRowLength = estimate;
+    }
+
+    static RowTemplate compile(String pattern) {
+        List<String> literals = new ArrayList<>();
+        List<Field> fields = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+
+        int i = 0;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i++);
+            if (c != '%') {
+                literal.append(c);
+                continue;
+            }
+            if (i >= pattern.length()) {
+                throw unsupported(pattern);
+            }
+            if (pattern.charAt(i) == 'n') {
+                literal.append(LINE_SEPARATOR);
+                i++;
+                continue;
+            }
+            if (pattern.charAt(i) == '%') {
+                literal.append('%');
+                i++;
+                continue;
+            }
+
+            boolean leftJustify = false;
+            boolean grouped = false;
+            while (i < pattern.length() && (pattern.charAt(i) == '-' || pattern.charAt(i) == ',')) {
+                if (pattern.charAt(i++) == '-') {
+                    leftJustify = true;
+                } else {
+                    grouped = true;
+                }
+            }
+            int width = 0;
+            while (i < pattern.length() && Character.isDigit(pattern.charAt(i))) {
+                width = width * 10 + (pattern.charAt(i++) - '0');
+            }
+            if (i >= pattern.length()) {
+                throw unsupported(pattern);
+            }
+            char conversion = pattern.charAt(i++);
+            if ((conversion != 's' && conversion != 'd') || (grouped && conversion != 'd')
+                    || (leftJustify && width == 0)) {
+                throw unsupported(pattern);
+            }
+
+            literals.add(literal.toString());
+            literal.setLength(0);
+            fields.add(new Field(conversion == 'd', grouped, leftJustify, width));
+        }
+        literals.add(literal.toString());
+        return new RowTemplate(pattern, literals, fields);
+    }
+
+    /**
+     * rows adet satir icin yeterli StringBuilder kapasitesi (baslik ve footer haric).
+     */
+    int capacityFor(int rows) {
+        return rows * estimatedRowLength;
+    }
+
+    /**
+     * sb'ye satir yazan writer. Tek bir render boyunca tekrar tekrar kullanilir; thread-safe degildir.
+     */
+    Row writer(StringBuilder sb) {
+        Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        Digits current = digits;
+        if (!current.locale().equals(locale)) {
+            current = Digits.of(locale);
+            digits = current;
+        }
+        return new Row(sb, current);
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+
+    private static IllegalArgumentException unsupported(String pattern) {
+        return new IllegalArgumentException("Unsupported row template: " + pattern);
+    }
+
+    final class Row {
+
+        private final StringBuilder sb;
+        private final Digits digits;
+        private int field;
+
+        private Row(StringBuilder sb, Digits digits) {
+            this.sb = sb;
+            this.digits = digits;
+        }
+
+        /** Siradaki %s alanini yazar. */
+        Row text(Object value) {
+            Field spec = next(false);
+            int start = sb.length();
+            sb.append(value);
+            pad(spec, start);
+            return this;
+        }
+
+        /** Siradaki %d / %,d alanini yazar. */
+        Row number(long value) {
+            Field spec = next(true);
+            int start = sb.length();
+            if (!digits.ascii()) {
+                sb.append(String.format(digits.locale(), spec.grouped() ? "%,d" : "%d", value));
+            } else if (spec.grouped() && digits.groupingSeparator() != '\0') {
+                appendGrouped(value);
+            } else {
+                sb.append(value);
+            }
+            pad(spec, start);
+            return this;
+        }
+
+        /** Satir sonu literal'ini yazar; writer bir sonraki satira hazir olur. */
+        void end() {
+            if (field != fields.length) {
+                throw new IllegalStateException("Row template expects " + fields.length
+                        + " values, got " + field + ": " + pattern);
+            }
+            sb.append(literals[field]);
+            field = 0;
+        }
+
+        private Field next(boolean number) {
+            if (field >= fields.length || fields[field].number() != number) {
+                throw new IllegalStateException("Unexpected " + (number ? "number" : "text")
+                        + " for value " + (field + 1) + " of row template: " + pattern);
+            }
+            sb.append(literals[field]);
+            return fields[field++];
+        }
+
+        private void pad(Field spec, int start) {
+            int missing = spec.width() - (sb.length() - start);
+            if (missing <= 0) {
+                return;
+            }
+            if (spec.leftJustify()) {
+                sb.repeat(' ', missing);
+            } else {
+                sb.insert(start, " ".repeat(missing));
+            }
+        }
+
+        /**
+         * Formatter'in %,d ciktisi: isaret, sonra sagdan gruplama boyutu kadar basamakta bir ayrac.
+         */
+        private void appendGrouped(long value) {
+            int start = sb.length();
+            sb.append(value);
+            int firstDigit = value < 0 ? start + 1 : start;
+            int size = digits.groupingSize();
+            for (int pos = sb.length() - size; pos > firstDigit; pos -= size) {
+                sb.insert(pos, digits.groupingSeparator());
+            }
+        }
+    }
+
+    private record Field(boolean number, boolean grouped, boolean leftJustify, int width) {
+    }
+
+    /**
+     * Locale'in rakam ve gruplama ayarlari; java.util.Formatter ile ayni kaynaklardan okunur.
+     * groupingSeparator '\0' ise locale gruplama kullanmiyordur.
+     */
+    private record Digits(Locale locale, boolean ascii, char groupingSeparator, int groupingSize) {
+
+        static Digits of(Locale locale) {
+            DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+            char separator = symbols.getGroupingSeparator();
+            int size = 3;
+            if (!locale.equals(Locale.US) && NumberFormat.getNumberInstance(locale) instanceof DecimalFormat format) {
+                size = format.getGroupingSize();
+                if (!format.isGroupingUsed() || size == 0) {
+                    separator = '\0';
+                }
+            }
+            return new Digits(locale, symbols.getZeroDigit() == '0', separator, size);
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package com.tutorial.mcpserver.service;
 
 import com.tutorial.mcpserver.model.Segment;
+import com.tutorial.mcpserver.model.SegmentStats;
+import com.tutorial.mcpserver.model.SegmentSummary;
 import com.tutorial.mcpserver.repository.SegmentRepository;
+import com.tutorial.mcpserver.stats.StatsCounters;
 import org.springframework.ai.tool.annotation.Tool;
 import org.springframework.ai.tool.annotation.ToolParam;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Segment (Kullanici Segmenti) MCP Tool'lari.
@@ -16,115 +20,208 @@ import java.util.List;
  *
  * Bu tool'lar MCP Client (veya LLM) tarafindan cagirilarak
  * segment verilerine erisim saglar.
+ *
+ * Tool'lar tipli sonuc record'lari dondurur (SegmentPage, SegmentFound ...), bkz. ToolOutput.
  */
 @Service
 public class SegmentService {
 
     private final SegmentRepository segmentRepository;
+    private final StatsCounters statsCounters;
 
-    public SegmentService(SegmentRepository segmentRepository) {
+    public SegmentService(SegmentRepository segmentRepository, StatsCounters statsCounters) {
         this.segmentRepository = segmentRepository;
+        this.statsCounters = statsCounters;
     }
 
-    @Tool(description = "Lists all segments with summary info: code, name, type, status, and user count.")
-    public String listSegments() {
-        List<Segment> segments = segmentRepository.findAll();
-        if (segments.isEmpty()) {
-            return "No segments found in the database.";
+    @Tool(description = "Lists segments page by page, ordered by id, with summary info: code, name, type, status, and user count. Returns a nextCursor when more segments are available.")
+    public SegmentPage listSegments(
+            @ToolParam(description = "Maximum number of segments to return (default 50, max 500)", required = false) Integer pageSize,
+            @ToolParam(description = "nextCursor value from the previous page; omit to start from the first page", required = false) String after) {
+        if (!KeysetPage.isValidCursor(after)) {
+            throw new IllegalArgumentException(KeysetPage.invalidCursor(after));
         }
-        StringBuilder sb = new StringBuilder("Segments in database:\n");
-        for (Segment seg : segments) {
-            sb.append(String.format("  [%s] %-5s | %-25s | %-10s | %-18s | users: %d%n",
-                    seg.getId(), seg.getCode(), seg.getName(),
-                    seg.getEntityStatus(), seg.getSegmentStatus(), seg.getUserCount()));
-        }
-        return sb.toString();
+        int size = KeysetPage.pageSize(pageSize);
+        List<SegmentSummary> segments = KeysetPage.hasCursor(after)
+                ? segmentRepository.findByIdGreaterThan(after, KeysetPage.request(size))
+                : segmentRepository.findAllBy(KeysetPage.request(size));
+        return SegmentPage.of(KeysetPage.of(segments, size, SegmentSummary::id), after);
     }
 
     @Tool(description = "Gets detailed information about a segment by its unique code (5-character code like 'svysw').")
-    public String getSegmentByCode(
+    public SegmentFound getSegmentByCode(
             @ToolParam(description = "The unique 5-character segment code") String code) {
         return segmentRepository.findByCode(code)
-                .map(seg -> String.format(
-                        "Segment Details:\n" +
-                        "  ID: %s\n" +
-                        "  Code: %s\n" +
-                        "  Name: %s\n" +
-                        "  Type: %s\n" +
-                        "  Segment Status: %s\n" +
-                        "  Entity Status: %s\n" +
-                        "  Created By: %s\n" +
-                        "  User Count: %d\n" +
-                        "  Device Counts: Android=%d, iOS=%d, Total=%d\n" +
-                        "  Created: %s\n" +
-                        "  Updated: %s",
-                        seg.getId(), seg.getCode(), seg.getName(),
-                        seg.getSegmentType(), seg.getSegmentStatus(), seg.getEntityStatus(),
-                        seg.getCreatedBy(), seg.getUserCount(),
-                        seg.getDeviceCounts() != null ? seg.getDeviceCounts().getAndroid() : 0,
-                        seg.getDeviceCounts() != null ? seg.getDeviceCounts().getIos() : 0,
-                        seg.getDeviceCounts() != null ? seg.getDeviceCounts().getTotal() : 0,
-                        seg.getDate(), seg.getUpdateDate()))
-                .orElse("Segment with code '" + code + "' not found.");
+                .map(SegmentFound::new)
+                .orElseThrow(() -> new IllegalArgumentException(segmentNotFound(code)));
     }
 
     @Tool(description = "Finds segments by their calculation status. Valid statuses: READY, WAITING_CALCULATE, WAITING_DELETED")
-    public String findSegmentsByStatus(
+    public SegmentsByStatus findSegmentsByStatus(
             @ToolParam(description = "Segment status: READY, WAITING_CALCULATE, or WAITING_DELETED") String segmentStatus) {
-        List<Segment> segments = segmentRepository.findBySegmentStatus(segmentStatus.toUpperCase());
+        return new SegmentsByStatus(segmentStatus, segmentRepository.findBySegmentStatus(segmentStatus.toUpperCase()));
+    }
+
+    @Tool(description = "Lists only active segments (entityStatus = ACTIVE). Filters out deleted segments.")
+    public ActiveSegments findActiveSegments() {
+        return new ActiveSegments(segmentRepository.findByEntityStatus("ACTIVE"));
+    }
+
+    @Tool(description = "Returns statistics about segments: counts by status and type, active/deleted counts, total user reach, and device reach.")
+    public SegmentStatistics getSegmentStats() {
+        // Bellekteki sayaclardan okunur, Mongo'ya gidilmez (bkz. StatsCounters)
+        return new SegmentStatistics(statsCounters.segmentStats());
+    }
+
+    // ── Tool sonuclari ─────────────────────────────────────────
+    // MCP'ye structuredContent olarak gider; metin sadece client isterse uretilir (bkz. ToolOutput).
+
+    public record SegmentPage(List<SegmentSummary> segments, String after, String nextCursor) implements ToolOutput {
+
+        static SegmentPage of(KeysetPage<SegmentSummary> page, String after) {
+            return new SegmentPage(page.items(), after, page.nextCursor());
+        }
+
+        @Override
+        public String toText() {
+            return renderSegmentPage(this);
+        }
+    }
+
+    public record SegmentFound(Segment segment) implements ToolOutput {
+
+        @Override
+        public String toText() {
+            return renderSegment(segment);
+        }
+    }
+
+    public record SegmentsByStatus(String segmentStatus, List<SegmentSummary> segments) implements ToolOutput {
+
+        @Override
+        public String toText() {
+            return renderByStatus(segmentStatus, segments);
+        }
+    }
+
+    public record ActiveSegments(List<SegmentSummary> segments) implements ToolOutput {
+
+        @Override
+        public String toText() {
+            return renderActive(segments);
+        }
+    }
+
+    public record SegmentStatistics(SegmentStats stats) implements ToolOutput {
+
+        @Override
+        public String toText() {
+            return renderStats(stats);
+        }
+    }
+
+    // ── Cikti metinleri ────────────────────────────────────────
+    // SYNC (bu sinif) ve ASYNC (ReactiveSegmentService) tool'lari ayni metni uretir.
+    // Liste satirlari onceden derlenmis RowTemplate'lerle yazilir (String.format yerine).
+
+    private static final RowTemplate PAGE_ROW = RowTemplate.compile("  [%s] %-5s | %-25s | %-10s | %-18s | users: %d%n");
+    private static final RowTemplate STATUS_ROW = RowTemplate.compile("  [%s] %-25s | users: %d%n");
+    private static final RowTemplate ACTIVE_ROW = RowTemplate.compile("  [%s] %-25s | %-18s | users: %d%n");
+    private static final RowTemplate COUNT_ROW = RowTemplate.compile("    %-20s : %d%n");
+
+    static String renderSegmentPage(SegmentPage page) {
+        if (page.segments().isEmpty()) {
+            return KeysetPage.hasCursor(page.after())
+                    ? "No more segments after cursor " + page.after() + "."
+                    : "No segments found in the database.";
+        }
+        StringBuilder sb = new StringBuilder(PAGE_ROW.capacityFor(page.segments().size() + 1));
+        sb.append("Segments in database:\n");
+        RowTemplate.Row row = PAGE_ROW.writer(sb);
+        for (SegmentSummary seg : page.segments()) {
+            row.text(seg.id()).text(seg.code()).text(seg.name())
+                    .text(seg.entityStatus()).text(seg.segmentStatus()).number(seg.userCount()).end();
+        }
+        KeysetPage.appendFooter(sb, page.nextCursor());
+        return sb.toString();
+    }
+
+    static String renderSegment(Segment seg) {
+        return String.format(
+                "Segment Details:\n" +
+                "  ID: %s\n" +
+                "  Code: %s\n" +
+                "  Name: %s\n" +
+                "  Type: %s\n" +
+                "  Segment Status: %s\n" +
+                "  Entity Status: %s\n" +
+                "  Created By: %s\n" +
+                "  User Count: %d\n" +
+                "  Device Counts: Android=%d, iOS=%d, Total=%d\n" +
+                "  Created: %s\n" +
+                "  Updated: %s",
+                seg.getId(), seg.getCode(), seg.getName(),
+                seg.getSegmentType(), seg.getSegmentStatus(), seg.getEntityStatus(),
+                seg.getCreatedBy(), seg.getUserCount(),
+                seg.getDeviceCounts() != null ? seg.getDeviceCounts().getAndroid() : 0,
+                seg.getDeviceCounts() != null ? seg.getDeviceCounts().getIos() : 0,
+                seg.getDeviceCounts() != null ? seg.getDeviceCounts().getTotal() : 0,
+                seg.getDate(), seg.getUpdateDate());
+    }
+
+    static String segmentNotFound(String code) {
+        return "Segment with code '" + code + "' not found.";
+    }
+
+    static String renderByStatus(String segmentStatus, List<SegmentSummary> segments) {
         if (segments.isEmpty()) {
             return "No segments found with status: " + segmentStatus;
         }
-        StringBuilder sb = new StringBuilder("Segments with status " + segmentStatus + ":\n");
-        for (Segment seg : segments) {
-            sb.append(String.format("  [%s] %-25s | users: %d%n",
-                    seg.getCode(), seg.getName(), seg.getUserCount()));
+        StringBuilder sb = new StringBuilder(STATUS_ROW.capacityFor(segments.size() + 1));
+        sb.append("Segments with status ").append(segmentStatus).append(":\n");
+        RowTemplate.Row row = STATUS_ROW.writer(sb);
+        for (SegmentSummary seg : segments) {
+            row.text(seg.code()).text(seg.name()).number(seg.userCount()).end();
         }
         return sb.toString();
     }
 
-    @Tool(description = "Lists only active segments (entityStatus = ACTIVE). Filters out deleted segments.")
-    public String findActiveSegments() {
-        List<Segment> segments = segmentRepository.findByEntityStatus("ACTIVE");
+    static String renderActive(List<SegmentSummary> segments) {
         if (segments.isEmpty()) {
             return "No active segments found.";
         }
-        StringBuilder sb = new StringBuilder("Active segments:\n");
-        for (Segment seg : segments) {
-            sb.append(String.format("  [%s] %-25s | %-18s | users: %d%n",
-                    seg.getCode(), seg.getName(), seg.getSegmentStatus(), seg.getUserCount()));
+        StringBuilder sb = new StringBuilder(ACTIVE_ROW.capacityFor(segments.size() + 1));
+        sb.append("Active segments:\n");
+        RowTemplate.Row row = ACTIVE_ROW.writer(sb);
+        for (SegmentSummary seg : segments) {
+            row.text(seg.code()).text(seg.name()).text(seg.segmentStatus()).number(seg.userCount()).end();
         }
         return sb.toString();
     }
 
-    @Tool(description = "Returns statistics about segments: counts by type, status, and total user reach.")
-    public String getSegmentStats() {
-        long total = segmentRepository.count();
-        if (total == 0) {
+    static String renderStats(SegmentStats stats) {
+        if (stats.total() == 0) {
             return "No segments in the database.";
         }
 
-        long activeCount = segmentRepository.countByEntityStatus("ACTIVE");
-        long deletedCount = segmentRepository.countByEntityStatus("DELETED");
-
-        // Toplam kullanici erisimi hesapla
-        List<Segment> allSegments = segmentRepository.findAll();
-        int totalUsers = allSegments.stream().mapToInt(Segment::getUserCount).sum();
-
         StringBuilder sb = new StringBuilder("Segment Statistics:\n");
-        sb.append(String.format("  Total segments: %d%n", total));
-        sb.append(String.format("  Active: %d | Deleted: %d%n%n", activeCount, deletedCount));
-
-        sb.append("  By Status:\n");
-        for (String status : List.of("READY", "WAITING_CALCULATE", "WAITING_DELETED")) {
-            long count = segmentRepository.findBySegmentStatus(status).size();
-            if (count > 0) {
-                sb.append(String.format("    %-20s : %d%n", status, count));
-            }
-        }
+        sb.append(String.format("  Total segments: %d%n", stats.total()));
+        sb.append(String.format("  Active: %d | Deleted: %d%n%n", stats.activeCount(), stats.deletedCount()));
 
-        sb.append(String.format("%n  Total user reach: %,d%n", totalUsers));
+        appendCounts(sb, "By Status", stats.bySegmentStatus());
+        sb.append('\n');
+        appendCounts(sb, "By Type", stats.bySegmentType());
+
+        sb.append(String.format("%n  Total user reach: %,d%n", stats.totalUserCount()));
+        sb.append(String.format("  Device reach: Android=%,d, iOS=%,d, Total=%,d%n",
+                stats.androidDevices(), stats.iosDevices(), stats.totalDevices()));
 
         return sb.toString();
     }
+
+    private static void appendCounts(StringBuilder sb, String title, Map<String, Long> counts) {
+        sb.append("  ").append(title).append(":\n");
+        RowTemplate.Row row = COUNT_ROW.writer(sb);
+        counts.forEach((key, count) -> row.text(key).number(count).end());
+    }
 }
@@ -0,0 +1,29 @@
+package com.tutorial.mcpserver.service;
+
+import java.util.Map;
+
+/**
+ * Tool'larin dondurdugu tipli sonuc (UserPage, MessageFound, SegmentStatistics ...).
+ *
+ * MCP CallToolResult'ta:
+ *   - structuredContent → record'un JSON hali; tool tanimindaki outputSchema buna uyar
+ *   - content           → ayni JSON'un metni (structuredContent okumayan eski client'lar icin)
+ *
+ * Insan okunur metin (eski padded tablo cikti) sadece client istediginde uretilir:
+ *   tools/call istegindeki _meta: {"format": "text"} → content'e toText() yazilir.
+ * Boylece programatik client'lar metni parse etmez, metin de bosuna render edilmez.
+ */
+public interface ToolOutput {
+
+    String FORMAT_META = "format";
+    String TEXT_FORMAT = "text";
+
+    String toText();
+
+    /**
+     * Istegin _meta'sinda metin cikti istenmis mi?
+     */
+    static boolean textRequested(Map<String, Object> meta) {
+        return meta != null && TEXT_FORMAT.equals(meta.get(FORMAT_META));
+    }
+}
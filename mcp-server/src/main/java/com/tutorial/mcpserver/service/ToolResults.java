@@ -0,0 +1,43 @@
+package com.tutorial.mcpserver.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.springframework.ai.util.json.JsonParser;
+
+import java.util.Map;
+
+/**
+ * Reactive (@McpTool) servislerinin urettigi ToolOutput'u MCP tool sonucuna cevirir.
+ * SYNC tarafta ayni donusumu StructuredToolSpecifications yapar; iki modda da
+ * JSON, Spring AI'in tool sonuclari icin kullandigi ObjectMapper ile uretilir.
+ */
+final class ToolResults {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    private ToolResults() {
+    }
+
+    /**
+     * structuredContent record'dan dogrudan Map'e cevrilir; JSON metni sadece content icin,
+     * metin cikti istenmediyse uretilir ve tekrar parse edilmez.
+     */
+    static McpSchema.CallToolResult of(ToolOutput output, McpSchema.CallToolRequest request) {
+        Map<String, Object> structured = JsonParser.getObjectMapper().convertValue(output, MAP_TYPE);
+        String text = request != null && ToolOutput.textRequested(request.meta())
+                ? output.toText()
+                : JsonParser.toJson(structured);
+        return McpSchema.CallToolResult.builder()
+                .addTextContent(text)
+                .structuredContent(structured)
+                .build();
+    }
+
+    static McpSchema.CallToolResult error(String message) {
+        return McpSchema.CallToolResult.builder()
+                .addTextContent(message)
+                .isError(true)
+                .build();
+    }
+}
@@ -0,0 +1,129 @@
+package com.tutorial.mcpserver.service;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.tutorial.mcpserver.model.User;
+import com.tutorial.mcpserver.model.UserSummary;
+import com.tutorial.mcpserver.service.UserService.NewUser;
+import com.tutorial.mcpserver.service.UserService.UserOutcome;
+import com.tutorial.mcpserver.service.UserService.UsersCreated;
+import org.bson.types.ObjectId;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * createUsers tool'unun SYNC (UserService) ve ASYNC (ReactiveUserService) ortak adimlari.
+ *
+ * createUser her kullanici icin 2 round trip yapar (existsByEmail + save): 5.000 kisi → 10.000 cagri.
+ * createUsers tum listeyi 2 round trip'te yazar:
+ *   1. db.users.find({email: {$in: [...]}})           → veritabaninda zaten olan email'ler (emails())
+ *   2. db.users.insertMany([...], {ordered: false})   → geri kalanlar (usersToInsert())
+ *
+ * Her kullanicinin sonucu istekteki sirasiyla raporlanir (result()):
+ *   CREATED   → eklendi; id insert'ten once atanir, boylece hangi document'in hangi id ile yazildigi bellidir
+ *   DUPLICATE → email veritabaninda var, istekte daha once geciyor ya da iki adim arasinda baskasi ekledi (E11000)
+ *   INVALID   → name / email / department bos
+ *   FAILED    → diger yazma hatalari (unordered oldugu icin digerlerini etkilemez)
+ */
+final class UserBatch {
+
+    static final int MAX_USERS = 5000;
+
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final List<NewUser> users;
+    private final UserOutcome[] outcomes;
+    /** Bos alan / istek ici tekrar elemesinden gecenlerin istekteki indeksleri. */
+    private final List<Integer> candidates = new ArrayList<>();
+    private final Set<String> emails = new LinkedHashSet<>();
+    /** insertMany'ye giden listedeki sira → istekteki indeks. */
+    private final List<Integer> inserted = new ArrayList<>();
+    private final List<User> toInsert = new ArrayList<>();
+
+    UserBatch(List<NewUser> users) {
+        this.users = users;
+        this.outcomes = new UserOutcome[users.size()];
+        for (int i = 0; i < users.size(); i++) {
+            NewUser user = users.get(i);
+            if (user == null || isBlank(user.name()) || isBlank(user.email()) || isBlank(user.department())) {
+                outcomes[i] = UserOutcome.invalid(i, user != null ? user.email() : null);
+            } else if (!emails.add(user.email())) {
+                outcomes[i] = UserOutcome.duplicate(i, user.email(), null, "Email appears earlier in the request.");
+            } else {
+                candidates.add(i);
+            }
+        }
+    }
+
+    static boolean isValidSize(List<NewUser> users) {
+        return users != null && !users.isEmpty() && users.size() <= MAX_USERS;
+    }
+
+    static String invalidSize(List<NewUser> users) {
+        return "Error: users must contain between 1 and " + MAX_USERS + " entries (got "
+                + (users != null ? users.size() : 0) + ").";
+    }
+
+    /**
+     * $in sorgusuna girecek email'ler; bossa sorguya gerek yoktur.
+     */
+    Collection<String> emails() {
+        return emails;
+    }
+
+    /**
+     * Veritabaninda olan email'leri DUPLICATE isaretler, geri kalanlar icin id atanmis User'lari dondurur.
+     */
+    List<User> usersToInsert(List<UserSummary> existing) {
+        Map<String, String> existingIds = new HashMap<>();
+        for (UserSummary user : existing) {
+            existingIds.put(user.email(), user.id());
+        }
+        for (int index : candidates) {
+            NewUser user = users.get(index);
+            String existingId = existingIds.get(user.email());
+            if (existingId != null) {
+                outcomes[index] = UserOutcome.duplicate(index, user.email(), existingId, "A user with this email already exists.");
+                continue;
+            }
+            User entity = new User(user.name(), user.email(), user.department());
+            entity.setId(new ObjectId().toHexString());
+            toInsert.add(entity);
+            inserted.add(index);
+        }
+        return toInsert;
+    }
+
+    /**
+     * insertMany hatalarini (BulkWriteError.getIndex() → toInsert sirasi) kullanici sonuclarina cevirir.
+     */
+    UsersCreated result(List<BulkWriteError> errors) {
+        Map<Integer, BulkWriteError> errorsByPosition = new HashMap<>();
+        for (BulkWriteError error : errors) {
+            errorsByPosition.put(error.getIndex(), error);
+        }
+        for (int position = 0; position < toInsert.size(); position++) {
+            int index = inserted.get(position);
+            User user = toInsert.get(position);
+            BulkWriteError error = errorsByPosition.get(position);
+            if (error == null) {
+                outcomes[index] = UserOutcome.created(index, user.getEmail(), user.getId());
+            } else if (error.getCode() == DUPLICATE_KEY) {
+                outcomes[index] = UserOutcome.duplicate(index, user.getEmail(), null, "A user with this email already exists.");
+            } else {
+                outcomes[index] = UserOutcome.failed(index, user.getEmail(), error.getMessage());
+            }
+        }
+        return UsersCreated.of(Arrays.asList(outcomes));
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -1,6 +1,7 @@
 package com.tutorial.mcpserver.service;
 
 import com.tutorial.mcpserver.model.User;
+import com.tutorial.mcpserver.model.UserSummary;
 import com.tutorial.mcpserver.repository.UserRepository;
 import org.springframework.ai.tool.annotation.Tool;
 import org.springframework.ai.tool.annotation.ToolParam;
@@ -14,10 +15,14 @@ import java.util.List;
  * @Tool annotation'i ile isaretlenen her method, MCP protokolu uzerinden
  * client'larin kesfedip cagirabileceği bir "tool" olarak sunulur.
  *
+ * Tool'lar metin degil, tipli sonuc record'lari dondurur (UserPage, UserFound ...).
+ * MCP'de bunlar structuredContent + outputSchema olarak gorunur (bkz. ToolOutput).
+ *
  * MCP Client bu tool'lari su sekilde gorecek:
- *   - listAllUsers     -> Tum kullanicilari listeler
+ *   - listAllUsers     -> Kullanicilari sayfa sayfa listeler (pageSize + after cursor)
  *   - getUserById      -> ID ile kullanici getirir
  *   - createUser       -> Yeni kullanici olusturur
+ *   - createUsers      -> Toplu kullanici olusturur (tek $in sorgusu + unordered insertMany, bkz. UserBatch)
  *   - deleteUser       -> Kullanici siler
  *   - findUsersByDepartment -> Departmana gore arar
  *
@@ -33,64 +38,242 @@ public class UserService {
         this.userRepository = userRepository;
     }
 
-    @Tool(description = "Lists all users in the database. Returns a formatted string of all users with their id, name, email, and department.")
-    public String listAllUsers() {
-        List<User> users = userRepository.findAll();
-        if (users.isEmpty()) {
-            return "No users found in the database.";
-        }
-        StringBuilder sb = new StringBuilder("Users in database:\n");
-        for (User user : users) {
-            sb.append(String.format("  [ID: %s] %s (%s) - %s%n",
-                    user.getId(), user.getName(), user.getEmail(), user.getDepartment()));
+    @Tool(description = "Lists users in the database page by page, ordered by id. Returns each user's id, name, email, and department, plus a nextCursor when more users are available.")
+    public UserPage listAllUsers(
+            @ToolParam(description = "Maximum number of users to return (default 50, max 500)", required = false) Integer pageSize,
+            @ToolParam(description = "nextCursor value from the previous page; omit to start from the first page", required = false) String after) {
+        if (!KeysetPage.isValidCursor(after)) {
+            throw new IllegalArgumentException(KeysetPage.invalidCursor(after));
         }
-        return sb.toString();
+        int size = KeysetPage.pageSize(pageSize);
+        List<UserSummary> users = KeysetPage.hasCursor(after)
+                ? userRepository.findByIdGreaterThan(after, KeysetPage.request(size))
+                : userRepository.findAllBy(KeysetPage.request(size));
+        return UserPage.of(KeysetPage.of(users, size, UserSummary::id), after);
     }
 
     @Tool(description = "Gets a specific user by their ID. Returns user details or a not-found message.")
-    public String getUserById(
+    public UserFound getUserById(
             @ToolParam(description = "The unique ID of the user to retrieve (MongoDB ObjectId string)") String userId) {
         return userRepository.findById(userId)
-                .map(user -> String.format("User found: [ID: %s] %s (%s) - %s",
-                        user.getId(), user.getName(), user.getEmail(), user.getDepartment()))
-                .orElse("User with ID " + userId + " not found.");
+                .map(user -> new UserFound(UserSummary.of(user)))
+                .orElseThrow(() -> new IllegalArgumentException(userNotFound(userId)));
     }
 
     @Tool(description = "Creates a new user in the database. Requires name, email, and department. Returns the created user's information.")
-    public String createUser(
+    public UserCreated createUser(
             @ToolParam(description = "Full name of the user") String name,
             @ToolParam(description = "Email address of the user (must be unique)") String email,
             @ToolParam(description = "Department the user belongs to") String department) {
         if (userRepository.existsByEmail(email)) {
-            return "Error: A user with email '" + email + "' already exists.";
+            throw new IllegalArgumentException(duplicateEmail(email));
         }
         User user = new User(name, email, department);
         User saved = userRepository.save(user);
-        return String.format("User created successfully: [ID: %s] %s (%s) - %s",
-                saved.getId(), saved.getName(), saved.getEmail(), saved.getDepartment());
+        return new UserCreated(UserSummary.of(saved));
+    }
+
+    @Tool(description = "Creates many users in one call (max 5000). Each user needs name, email, and department; emails must be unique. Users whose email already exists or repeats in the request are skipped. Returns an outcome for every user in request order: CREATED with the new id, DUPLICATE, INVALID, or FAILED.")
+    public UsersCreated createUsers(
+            @ToolParam(description = "Users to create, each with name, email, and department") List<NewUser> users) {
+        if (!UserBatch.isValidSize(users)) {
+            throw new IllegalArgumentException(UserBatch.invalidSize(users));
+        }
+        UserBatch batch = new UserBatch(users);
+        List<UserSummary> existing = batch.emails().isEmpty()
+                ? List.of()
+                : userRepository.findByEmailIn(batch.emails());
+        return batch.result(userRepository.insertUnordered(batch.usersToInsert(existing)));
     }
 
     @Tool(description = "Deletes a user from the database by their ID. Returns confirmation or error message.")
-    public String deleteUser(
+    public UserDeleted deleteUser(
             @ToolParam(description = "The unique ID of the user to delete (MongoDB ObjectId string)") String userId) {
         if (!userRepository.existsById(userId)) {
-            return "Error: User with ID " + userId + " not found.";
+            throw new IllegalArgumentException(deleteNotFound(userId));
         }
         userRepository.deleteById(userId);
-        return "User with ID " + userId + " has been deleted successfully.";
+        return new UserDeleted(userId);
     }
 
     @Tool(description = "Finds all users belonging to a specific department. Returns matching users or a message if none found.")
-    public String findUsersByDepartment(
+    public DepartmentUsers findUsersByDepartment(
             @ToolParam(description = "The department name to search for") String department) {
-        List<User> users = userRepository.findByDepartment(department);
+        return new DepartmentUsers(department, userRepository.findByDepartment(department));
+    }
+
+    // ── Tool sonuclari ─────────────────────────────────────────
+    // MCP'ye structuredContent olarak gider; metin sadece client isterse uretilir (bkz. ToolOutput).
+    // Bulunamayan kayit / gecersiz girdi sonuc degil, hata olarak doner (isError=true).
+
+    public record UserPage(List<UserSummary> users, String after, String nextCursor) implements ToolOutput {
+
+        static UserPage of(KeysetPage<UserSummary> page, String after) {
+            return new UserPage(page.items(), after, page.nextCursor());
+        }
+
+        @Override
+        public String toText() {
+            return renderUserPage(this);
+        }
+    }
+
+    public record UserFound(UserSummary user) implements ToolOutput {
+
+        @Override
+        public String toText() {
+            return renderUser(user);
+        }
+    }
+
+    public record UserCreated(UserSummary user) implements ToolOutput {
+
+        @Override
+        public String toText() {
+            return renderCreatedUser(user);
+        }
+    }
+
+    /**
+     * createUsers girdisindeki tek kullanici.
+     */
+    public record NewUser(String name, String email, String department) {
+    }
+
+    /**
+     * createUsers'ta bir kullanicinin sonucu. userId: CREATED'da yeni id, DUPLICATE'te (biliniyorsa) var olan kaydin id'si.
+     */
+    public record UserOutcome(int index, String email, Status status, String userId, String error) {
+
+        public enum Status { CREATED, DUPLICATE, INVALID, FAILED }
+
+        static UserOutcome created(int index, String email, String userId) {
+            return new UserOutcome(index, email, Status.CREATED, userId, null);
+        }
+
+        static UserOutcome duplicate(int index, String email, String existingId, String error) {
+            return new UserOutcome(index, email, Status.DUPLICATE, existingId, error);
+        }
+
+        static UserOutcome invalid(int index, String email) {
+            return new UserOutcome(index, email, Status.INVALID, null, "name, email and department are required.");
+        }
+
+        static UserOutcome failed(int index, String email, String error) {
+            return new UserOutcome(index, email, Status.FAILED, null, error);
+        }
+    }
+
+    public record UsersCreated(int requested, int created, int duplicates, int invalid, int failed,
+                               List<UserOutcome> results) implements ToolOutput {
+
+        static UsersCreated of(List<UserOutcome> results) {
+            int[] counts = new int[UserOutcome.Status.values().length];
+            for (UserOutcome outcome : results) {
+                counts[outcome.status().ordinal()]++;
+            }
+            return new UsersCreated(results.size(),
+                    counts[UserOutcome.Status.CREATED.ordinal()],
+                    counts[UserOutcome.Status.DUPLICATE.ordinal()],
+                    counts[UserOutcome.Status.INVALID.ordinal()],
+                    counts[UserOutcome.Status.FAILED.ordinal()],
+                    results);
+        }
+
+        @Override
+        public String toText() {
+            return renderUsersCreated(this);
+        }
+    }
+
+    public record UserDeleted(String userId) implements ToolOutput {
+
+        @Override
+        public String toText() {
+            return userDeleted(userId);
+        }
+    }
+
+    public record DepartmentUsers(String department, List<UserSummary> users) implements ToolOutput {
+
+        @Override
+        public String toText() {
+            return renderDepartment(department, users);
+        }
+    }
+
+    // ── Cikti metinleri ────────────────────────────────────────
+    // SYNC (bu sinif) ve ASYNC (ReactiveUserService) tool'lari ayni metni uretir.
+    // Liste satirlari onceden derlenmis RowTemplate'lerle yazilir (String.format yerine).
+
+    private static final RowTemplate USER_ROW = RowTemplate.compile("  [ID: %s] %s (%s) - %s%n");
+    private static final RowTemplate DEPARTMENT_ROW = RowTemplate.compile("  [ID: %s] %s (%s)%n");
+    private static final RowTemplate OUTCOME_ROW = RowTemplate.compile("  #%d %-9s %s - %s%n");
+
+    static String renderUserPage(UserPage page) {
+        if (page.users().isEmpty()) {
+            return KeysetPage.hasCursor(page.after())
+                    ? "No more users after cursor " + page.after() + "."
+                    : "No users found in the database.";
+        }
+        StringBuilder sb = new StringBuilder(USER_ROW.capacityFor(page.users().size() + 1));
+        sb.append("Users in database:\n");
+        RowTemplate.Row row = USER_ROW.writer(sb);
+        for (UserSummary user : page.users()) {
+            row.text(user.id()).text(user.name()).text(user.email()).text(user.department()).end();
+        }
+        KeysetPage.appendFooter(sb, page.nextCursor());
+        return sb.toString();
+    }
+
+    static String renderUser(UserSummary user) {
+        return String.format("User found: [ID: %s] %s (%s) - %s",
+                user.id(), user.name(), user.email(), user.department());
+    }
+
+    static String userNotFound(String userId) {
+        return "User with ID " + userId + " not found.";
+    }
+
+    static String duplicateEmail(String email) {
+        return "Error: A user with email '" + email + "' already exists.";
+    }
+
+    static String renderCreatedUser(UserSummary saved) {
+        return String.format("User created successfully: [ID: %s] %s (%s) - %s",
+                saved.id(), saved.name(), saved.email(), saved.department());
+    }
+
+    static String renderUsersCreated(UsersCreated result) {
+        StringBuilder sb = new StringBuilder(OUTCOME_ROW.capacityFor(result.results().size() + 1));
+        sb.append("Created ").append(result.created()).append(" of ").append(result.requested())
+                .append(" users (").append(result.duplicates()).append(" duplicate, ")
+                .append(result.invalid()).append(" invalid, ").append(result.failed()).append(" failed):\n");
+        RowTemplate.Row row = OUTCOME_ROW.writer(sb);
+        for (UserOutcome outcome : result.results()) {
+            row.number(outcome.index()).text(outcome.status()).text(outcome.email())
+                    .text(outcome.error() != null ? outcome.error() : "ID: " + outcome.userId()).end();
+        }
+        return sb.toString();
+    }
+
+    static String deleteNotFound(String userId) {
+        return "Error: User with ID " + userId + " not found.";
+    }
+
+    static String userDeleted(String userId) {
+        return "User with ID " + userId + " has been deleted successfully.";
+    }
+
+    static String renderDepartment(String department, List<UserSummary> users) {
         if (users.isEmpty()) {
             return "No users found in department: " + department;
         }
-        StringBuilder sb = new StringBuilder("Users in " + department + " department:\n");
-        for (User user : users) {
-            sb.append(String.format("  [ID: %s] %s (%s)%n",
-                    user.getId(), user.getName(), user.getEmail()));
+        StringBuilder sb = new StringBuilder(DEPARTMENT_ROW.capacityFor(users.size() + 1));
+        sb.append("Users in ").append(department).append(" department:\n");
+        RowTemplate.Row row = DEPARTMENT_ROW.writer(sb);
+        for (UserSummary user : users) {
+            row.text(user.id()).text(user.name()).text(user.email()).end();
         }
         return sb.toString();
     }
@@ -0,0 +1,43 @@
+package com.tutorial.mcpserver.stats;
+
+import com.tutorial.mcpserver.model.Message;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Message yazmalarini StatsCounters'a iletir.
+ *   - insert → sayaclar artirilir
+ *   - update / delete → mesaj sayaclari dirty isaretlenir, kisa sure icinde yeniden sayilir
+ */
+@Component
+public class MessageStatsListener extends AbstractMongoEventListener<Message> {
+
+    private final StatsCounters statsCounters;
+    private final PendingInserts pendingInserts = new PendingInserts();
+
+    public MessageStatsListener(StatsCounters statsCounters) {
+        this.statsCounters = statsCounters;
+    }
+
+    @Override
+    public void onBeforeConvert(BeforeConvertEvent<Message> event) {
+        pendingInserts.markIfNew(event.getSource(), event.getSource().getId());
+    }
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<Message> event) {
+        if (pendingInserts.wasInsert(event.getSource())) {
+            statsCounters.messageInserted(event.getSource());
+        } else {
+            statsCounters.messagesChanged();
+        }
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<Message> event) {
+        statsCounters.messagesChanged();
+    }
+}
@@ -0,0 +1,34 @@
+package com.tutorial.mcpserver.stats;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * BeforeConvert ile AfterSave event'leri arasinda "bu kayit yeni mi?" bilgisini tasir.
+ *
+ * AfterSaveEvent, kaydin insert mi update mi oldugunu soylemez. BeforeConvert aninda
+ * id'si null olan entity'ler yeni kayittir; ayni nesne AfterSave'de tekrar gelir.
+ *
+ * Basarisiz insert'lerde (duplicate key, timeout, Mongo kapali) AfterSave hic gelmez.
+ * Isaretler weak key olarak tutulur: entity'ye baska referans kalmayinca isaret de GC ile silinir,
+ * hata alan yazmalar bellekte birikmez. Caffeine weakKeys() anahtarlari identity (==) ile karsilastirir.
+ */
+final class PendingInserts {
+
+    private final Cache<Object, Boolean> pending = Caffeine.newBuilder()
+            .weakKeys()
+            .build();
+
+    void markIfNew(Object entity, String id) {
+        if (id == null) {
+            pending.put(entity, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * @return entity BeforeConvert'te id'siz geldiyse true (ve isareti kaldirir)
+     */
+    boolean wasInsert(Object entity) {
+        return pending.asMap().remove(entity) != null;
+    }
+}
@@ -0,0 +1,43 @@
+package com.tutorial.mcpserver.stats;
+
+import com.tutorial.mcpserver.model.Segment;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Segment yazmalarini StatsCounters'a iletir.
+ *   - insert → sayaclar artirilir
+ *   - update / delete → segment sayaclari dirty isaretlenir, kisa sure icinde yeniden sayilir
+ */
+@Component
+public class SegmentStatsListener extends AbstractMongoEventListener<Segment> {
+
+    private final StatsCounters statsCounters;
+    private final PendingInserts pendingInserts = new PendingInserts();
+
+    public SegmentStatsListener(StatsCounters statsCounters) {
+        this.statsCounters = statsCounters;
+    }
+
+    @Override
+    public void onBeforeConvert(BeforeConvertEvent<Segment> event) {
+        pendingInserts.markIfNew(event.getSource(), event.getSource().getId());
+    }
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<Segment> event) {
+        if (pendingInserts.wasInsert(event.getSource())) {
+            statsCounters.segmentInserted(event.getSource());
+        } else {
+            statsCounters.segmentsChanged();
+        }
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<Segment> event) {
+        statsCounters.segmentsChanged();
+    }
+}
@@ -0,0 +1,207 @@
+package com.tutorial.mcpserver.stats;
+
+import com.tutorial.mcpserver.model.Message;
+import com.tutorial.mcpserver.model.MessageStats;
+import com.tutorial.mcpserver.model.Segment;
+import com.tutorial.mcpserver.model.SegmentStats;
+import com.tutorial.mcpserver.repository.MessageRepository;
+import com.tutorial.mcpserver.repository.SegmentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * getMessageStats / getSegmentStats icin bellekte tutulan sayaclar.
+ *
+ * Dashboard'lar istatistik tool'larini birkac saniyede bir cagirir; her seferinde
+ * aggregation calistirmak yerine:
+ *   1. Uygulama hazir oldugunda sayaclar Mongo'dan bir kez yuklenir (aggregateStats).
+ *   2. Yeni eklenen Message/Segment'ler Mongo lifecycle event'leriyle
+ *      (bkz. MessageStatsListener, SegmentStatsListener) sayaclara eklenir.
+ *   3. Update ve delete'ler sayaclari "dirty" isaretler; degisen alanlari event'ten
+ *      bilemedigimiz icin o collection kisa sure icinde Mongo'dan yeniden sayilir.
+ *   4. Ayrica periyodik olarak tum sayaclar Mongo ile karsilastirilip duzeltilir
+ *      (event yayinlamayan yazmalar, orn. toplu insert'ler icin).
+ *
+ * Okuma tarafi sadece bir AtomicReference okur: O(1), Mongo'ya gitmez.
+ */
+@Component
+public class StatsCounters {
+
+    private static final Logger log = LoggerFactory.getLogger(StatsCounters.class);
+
+    /** Aggregation'daki FacetResults.UNKNOWN ile ayni: alan degeri olmayan document'lar. */
+    private static final String UNKNOWN = "UNKNOWN";
+
+    private final MessageRepository messageRepository;
+    private final SegmentRepository segmentRepository;
+
+    private final AtomicReference<MessageStats> messageStats = new AtomicReference<>();
+    private final AtomicReference<SegmentStats> segmentStats = new AtomicReference<>();
+
+    private final AtomicBoolean messagesDirty = new AtomicBoolean();
+    private final AtomicBoolean segmentsDirty = new AtomicBoolean();
+
+    /** Her degisiklikte artar; reconcile sirasinda gelen degisiklikleri fark etmek icin. */
+    private final AtomicLong messageVersion = new AtomicLong();
+    private final AtomicLong segmentVersion = new AtomicLong();
+
+    public StatsCounters(MessageRepository messageRepository, SegmentRepository segmentRepository) {
+        this.messageRepository = messageRepository;
+        this.segmentRepository = segmentRepository;
+    }
+
+    // ── Okuma ──────────────────────────────────────────────────
+
+    public MessageStats messageStats() {
+        MessageStats stats = messageStats.get();
+        return stats != null ? stats : reconcileMessages();
+    }
+
+    public SegmentStats segmentStats() {
+        SegmentStats stats = segmentStats.get();
+        return stats != null ? stats : reconcileSegments();
+    }
+
+    // ── Lifecycle event'leri ───────────────────────────────────
+
+    void messageInserted(Message msg) {
+        messageVersion.incrementAndGet();
+        messageStats.updateAndGet(stats -> stats == null ? null : new MessageStats(
+                stats.total() + 1,
+                plus(stats.byType(), msg.getMsgType(), 1),
+                plus(stats.byStatus(), msg.getSendStatus(), 1),
+                plus(stats.byMethod(), msg.getMsgMethod(), 1),
+                plusAll(stats.byPlatform(), msg.getPlatforms())));
+    }
+
+    void segmentInserted(Segment seg) {
+        segmentVersion.incrementAndGet();
+        Segment.DeviceCounts devices = seg.getDeviceCounts();
+        segmentStats.updateAndGet(stats -> stats == null ? null : new SegmentStats(
+                stats.total() + 1,
+                stats.totalUserCount() + seg.getUserCount(),
+                stats.androidDevices() + (devices != null ? devices.getAndroid() : 0),
+                stats.iosDevices() + (devices != null ? devices.getIos() : 0),
+                stats.totalDevices() + (devices != null ? devices.getTotal() : 0),
+                plus(stats.byEntityStatus(), seg.getEntityStatus(), 1),
+                plus(stats.bySegmentStatus(), seg.getSegmentStatus(), 1),
+                plus(stats.bySegmentType(), seg.getSegmentType(), 1)));
+    }
+
+    void messagesChanged() {
+        messageVersion.incrementAndGet();
+        messagesDirty.set(true);
+    }
+
+    void segmentsChanged() {
+        segmentVersion.incrementAndGet();
+        segmentsDirty.set(true);
+    }
+
+    // ── Mongo ile esitleme ─────────────────────────────────────
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reconcileMessages();
+        reconcileSegments();
+        log.info("Istatistik sayaclari yuklendi: {} mesaj, {} segment.",
+                messageStats.get().total(), segmentStats.get().total());
+    }
+
+    /**
+     * Update/delete sonrasi dirty isaretlenen collection'lari yeniden sayar.
+     */
+    @Scheduled(fixedDelayString = "${mcp.stats.dirty-check-interval-ms:2000}")
+    public void reconcileDirty() {
+        if (messagesDirty.get()) {
+            reconcileMessages();
+        }
+        if (segmentsDirty.get()) {
+            reconcileSegments();
+        }
+    }
+
+    /**
+     * Event'lerden kacan degisiklikler icin sayaclari periyodik olarak Mongo ile karsilastirir.
+     */
+    @Scheduled(fixedDelayString = "${mcp.stats.reconcile-interval-ms:60000}",
+            initialDelayString = "${mcp.stats.reconcile-interval-ms:60000}")
+    public void reconcileAll() {
+        MessageStats messagesBefore = messageStats.get();
+        SegmentStats segmentsBefore = segmentStats.get();
+        MessageStats messagesAfter = reconcileMessages();
+        SegmentStats segmentsAfter = reconcileSegments();
+        if (messagesBefore != null && !messagesBefore.equals(messagesAfter)) {
+            log.info("Mesaj sayaclari Mongo ile duzeltildi: total {} → {}", messagesBefore.total(), messagesAfter.total());
+        }
+        if (segmentsBefore != null && !segmentsBefore.equals(segmentsAfter)) {
+            log.info("Segment sayaclari Mongo ile duzeltildi: total {} → {}", segmentsBefore.total(), segmentsAfter.total());
+        }
+    }
+
+    public MessageStats reconcileMessages() {
+        messagesDirty.set(false);
+        long version = messageVersion.get();
+        MessageStats stats = messageRepository.aggregateStats();
+        messageStats.set(stats);
+        if (messageVersion.get() != version) {
+            // Aggregation sirasinda yazma oldu; sonucta olup olmadigi belli degil, tekrar say
+            messagesDirty.set(true);
+        }
+        return stats;
+    }
+
+    public SegmentStats reconcileSegments() {
+        segmentsDirty.set(false);
+        long version = segmentVersion.get();
+        SegmentStats stats = segmentRepository.aggregateStats();
+        segmentStats.set(stats);
+        if (segmentVersion.get() != version) {
+            segmentsDirty.set(true);
+        }
+        return stats;
+    }
+
+    // ── Yardimci method'lar ────────────────────────────────────
+
+    /**
+     * counts[key] += delta; aggregation ile ayni sirayi (sayiya gore azalan, sonra anahtar) korur.
+     */
+    private static Map<String, Long> plus(Map<String, Long> counts, String key, long delta) {
+        Map<String, Long> updated = new LinkedHashMap<>(counts);
+        updated.merge(key != null ? key : UNKNOWN, delta, Long::sum);
+        return sorted(updated);
+    }
+
+    private static Map<String, Long> plusAll(Map<String, Long> counts, List<String> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return counts;
+        }
+        Map<String, Long> updated = new LinkedHashMap<>(counts);
+        for (String key : keys) {
+            updated.merge(key != null ? key : UNKNOWN, 1L, Long::sum);
+        }
+        return sorted(updated);
+    }
+
+    private static Map<String, Long> sorted(Map<String, Long> counts) {
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .forEachOrdered(e -> sorted.put(e.getKey(), e.getValue()));
+        return sorted;
+    }
+}
@@ -0,0 +1,125 @@
+package com.tutorial.mcpserver.tool;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.ai.tool.metadata.ToolMetadata;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ToolCallback decorator'u: tool'u kendi bulkhead'i (Semaphore) arkasinda calistirir.
+ *
+ * Ayni anda en fazla "limit" cagri calisir. Fazlasi queue-timeout kadar izin bekler,
+ * sure dolarsa cagri reddedilir (exception → MCP tarafinda isError=true sonuc).
+ * Izin alindiktan sonra tool cagiran thread'de calisir; baska bir thread'e devredilmez.
+ * MCP handler'lari istegi alan (virtual) thread'de calistigi icin (bkz. McpToolConfig.immediateToolExecution)
+ * bekleme platform thread tutmaz.
+ */
+class BulkheadToolCallback implements StructuredToolCallback {
+
+    private final StructuredToolCallback delegate;
+    private final String toolName;
+    private final int limit;
+    private final Duration queueTimeout;
+    private final Semaphore permits;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder queued = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    BulkheadToolCallback(StructuredToolCallback delegate, int limit, Duration queueTimeout) {
+        this.delegate = delegate;
+        this.toolName = delegate.getToolDefinition().name();
+        this.limit = limit;
+        this.queueTimeout = queueTimeout;
+        this.permits = new Semaphore(limit, true);
+    }
+
+    @Override
+    public ToolDefinition getToolDefinition() {
+        return delegate.getToolDefinition();
+    }
+
+    @Override
+    public ToolMetadata getToolMetadata() {
+        return delegate.getToolMetadata();
+    }
+
+    @Override
+    public ToolResult callForResult(String toolInput, ToolContext toolContext) {
+        acquire();
+        try {
+            return delegate.callForResult(toolInput, toolContext);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void acquire() {
+        if (permits.tryAcquire()) {
+            calls.increment();
+            return;
+        }
+        queued.increment();
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(queueTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Tool '" + toolName + "' was interrupted while waiting for a free slot.", e);
+        }
+        long waited = System.nanoTime() - start;
+        totalWaitNanos.add(waited);
+        maxWaitNanos.accumulateAndGet(waited, Math::max);
+        if (!acquired) {
+            rejected.increment();
+            throw new IllegalStateException("Tool '" + toolName + "' is busy (" + limit
+                    + " concurrent calls), please retry later.");
+        }
+        calls.increment();
+    }
+
+    /**
+     * Ayni sayaclari Micrometer'a da verir: mcp.tool.bulkhead.active / .waiting / .rejected (tag: tool).
+     */
+    void bindTo(MeterRegistry meterRegistry) {
+        Gauge.builder("mcp.tool.bulkhead.active", permits, p -> limit - p.availablePermits())
+                .description("MCP tool calls currently holding a bulkhead permit")
+                .tag("tool", toolName)
+                .register(meterRegistry);
+        Gauge.builder("mcp.tool.bulkhead.waiting", permits, Semaphore::getQueueLength)
+                .description("MCP tool calls waiting for a bulkhead permit")
+                .tag("tool", toolName)
+                .register(meterRegistry);
+        FunctionCounter.builder("mcp.tool.bulkhead.rejected", rejected, LongAdder::sum)
+                .description("MCP tool calls rejected because the bulkhead stayed full")
+                .tag("tool", toolName)
+                .register(meterRegistry);
+    }
+
+    Map<String, Object> stats() {
+        long queuedCount = queued.sum();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("limit", limit);
+        result.put("active", limit - permits.availablePermits());
+        result.put("waiting", permits.getQueueLength());
+        result.put("calls", calls.sum());
+        result.put("queued", queuedCount);
+        result.put("rejected", rejected.sum());
+        result.put("avgWaitMs", queuedCount == 0 ? 0.0 : totalWaitNanos.sum() / 1_000_000.0 / queuedCount);
+        result.put("maxWaitMs", maxWaitNanos.get() / 1_000_000.0);
+        return result;
+    }
+}
@@ -0,0 +1,46 @@
+package com.tutorial.mcpserver.tool;
+
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.ai.tool.metadata.ToolMetadata;
+
+/**
+ * ToolCallback decorator'u: read-only tool'larda sonucu (ToolResult) ToolResultCache'ten verir,
+ * yazan tool'larda basarili cagridan sonra ilgili cache kayitlarini siler.
+ *
+ * Hata (exception) durumunda hicbir sey cache'lenmez ve silinmez.
+ */
+class CachingToolCallback implements StructuredToolCallback {
+
+    private final StructuredToolCallback delegate;
+    private final ToolResultCache cache;
+    private final boolean readOnly;
+    private final String toolName;
+
+    CachingToolCallback(StructuredToolCallback delegate, ToolResultCache cache, boolean readOnly) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.readOnly = readOnly;
+        this.toolName = delegate.getToolDefinition().name();
+    }
+
+    @Override
+    public ToolDefinition getToolDefinition() {
+        return delegate.getToolDefinition();
+    }
+
+    @Override
+    public ToolMetadata getToolMetadata() {
+        return delegate.getToolMetadata();
+    }
+
+    @Override
+    public ToolResult callForResult(String toolInput, ToolContext toolContext) {
+        if (readOnly) {
+            return cache.getOrCompute(toolName, toolInput, () -> delegate.callForResult(toolInput, toolContext));
+        }
+        ToolResult result = delegate.callForResult(toolInput, toolContext);
+        cache.onWrite(toolName, toolInput);
+        return result;
+    }
+}
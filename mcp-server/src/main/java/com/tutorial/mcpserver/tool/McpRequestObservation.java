@@ -0,0 +1,38 @@
+package com.tutorial.mcpserver.tool;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.transport.ReceiverContext;
+
+import java.util.Map;
+
+/**
+ * MCP isteginin server span'i (observation "mcp.server.requests").
+ *
+ * Client trace context'ini istegin _meta'sina W3C alanlari olarak yazar ("traceparent", "tracestate").
+ * Tracing handler'i bunlari ReceiverContext carrier'indan okur ve span'i client'in trace'ine baglar;
+ * _meta'da trace yoksa yeni bir trace baslar. Tool'lar (StructuredToolSpecifications) ve
+ * resource'lar (UserResourceProvider) ayni span'i kullanir.
+ */
+public final class McpRequestObservation {
+
+    private McpRequestObservation() {
+    }
+
+    /**
+     * @param method MCP method'u ("tools/call", "resources/read")
+     * @param target tool adi ya da resource URI'si
+     * @param meta   istegin _meta'si (null olabilir)
+     */
+    public static Observation of(String method, String target, Map<String, Object> meta,
+                                 ObservationRegistry observationRegistry) {
+        ReceiverContext<Map<String, Object>> context = new ReceiverContext<>(
+                (carrier, key) -> carrier.get(key) instanceof String value ? value : null);
+        context.setCarrier(meta != null ? meta : Map.of());
+        context.setRemoteServiceName("mcp-client");
+        return Observation.createNotStarted("mcp.server.requests", () -> context, observationRegistry)
+                .contextualName(method + " " + target)
+                .lowCardinalityKeyValue("mcp.method", method)
+                .lowCardinalityKeyValue("mcp.target", target);
+    }
+}
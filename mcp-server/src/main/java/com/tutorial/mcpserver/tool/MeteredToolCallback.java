@@ -0,0 +1,88 @@
+package com.tutorial.mcpserver.tool;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.ai.tool.execution.ToolExecutionException;
+import org.springframework.ai.tool.metadata.ToolMetadata;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ToolCallback decorator'u: cagri suresini, hatalari ve sonuc boyutunu Micrometer'a yazar (bkz. ToolMetrics).
+ *
+ * Basari/hata timer'lari ve boyut summary'si olusturulurken bir kez alinir;
+ * hata counter'i exception turu ile etiketlendigi icin hata aninda registry'den alinir.
+ */
+class MeteredToolCallback implements StructuredToolCallback {
+
+    private final StructuredToolCallback delegate;
+    private final MeterRegistry meterRegistry;
+    private final String toolName;
+    private final Timer successTimer;
+    private final Timer errorTimer;
+    private final DistributionSummary resultSize;
+
+    MeteredToolCallback(StructuredToolCallback delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+        this.toolName = delegate.getToolDefinition().name();
+        this.successTimer = timer("success");
+        this.errorTimer = timer("error");
+        this.resultSize = DistributionSummary.builder("mcp.tool.result.size")
+                .description("Size of MCP tool results")
+                .baseUnit("bytes")
+                .tag("tool", toolName)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ToolDefinition getToolDefinition() {
+        return delegate.getToolDefinition();
+    }
+
+    @Override
+    public ToolMetadata getToolMetadata() {
+        return delegate.getToolMetadata();
+    }
+
+    @Override
+    public ToolResult callForResult(String toolInput, ToolContext toolContext) {
+        long start = System.nanoTime();
+        ToolResult result;
+        try {
+            result = delegate.callForResult(toolInput, toolContext);
+        } catch (RuntimeException e) {
+            errorTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            Counter.builder("mcp.tool.errors")
+                    .description("MCP tool calls that failed, by exception type")
+                    .tag("tool", toolName)
+                    .tag("exception", exceptionName(e))
+                    .register(meterRegistry)
+                    .increment();
+            throw e;
+        }
+        successTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        resultSize.record(ToolMetrics.utf8Length(result.json()));
+        return result;
+    }
+
+    private Timer timer(String outcome) {
+        return Timer.builder("mcp.tool.duration")
+                .description("MCP tool call duration")
+                .tag("tool", toolName)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * MethodToolCallback tool'un exception'ini ToolExecutionException ile sarar; etikete asil tur yazilir.
+     */
+    private static String exceptionName(RuntimeException e) {
+        Throwable cause = e instanceof ToolExecutionException && e.getCause() != null ? e.getCause() : e;
+        return cause.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,35 @@
+package com.tutorial.mcpserver.tool;
+
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.tool.ToolCallback;
+
+import java.lang.reflect.Method;
+
+/**
+ * Sonucunu metin yerine ToolResult olarak da verebilen ToolCallback.
+ *
+ * Decorator zinciri (metrik → cache → bulkhead → @Tool method'u) bu arayuzle kurulur; boylece
+ * tool'un urettigi record ve structuredContent Map'i zincir boyunca ve cache'te tasinir,
+ * StructuredToolSpecifications JSON metnini her cagrida tekrar parse etmez.
+ */
+public interface StructuredToolCallback extends ToolCallback {
+
+    ToolResult callForResult(String toolInput, ToolContext toolContext);
+
+    @Override
+    default String call(String toolInput) {
+        return call(toolInput, null);
+    }
+
+    @Override
+    default String call(String toolInput, ToolContext toolContext) {
+        return callForResult(toolInput, toolContext).json();
+    }
+
+    /**
+     * Bir @Tool method'u icin zincirin en icteki callback'i.
+     */
+    static StructuredToolCallback of(Object toolObject, Method toolMethod) {
+        return ToolOutputCallback.of(toolObject, toolMethod);
+    }
+}
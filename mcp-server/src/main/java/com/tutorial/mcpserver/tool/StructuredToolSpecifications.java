@@ -0,0 +1,135 @@
+package com.tutorial.mcpserver.tool;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.tutorial.mcpserver.service.ToolOutput;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.modelcontextprotocol.server.McpServerFeatures;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.springframework.ai.mcp.McpToolUtils;
+import org.springframework.ai.tool.execution.ToolExecutionException;
+import org.springframework.ai.util.json.JsonParser;
+import org.springframework.ai.util.json.schema.JsonSchemaGenerator;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SYNC modda ToolCallback'leri structuredContent donduren MCP tool'larina cevirir.
+ *
+ * Spring AI'in varsayilan adaptoru (McpToolUtils) tool sonucunu sadece TextContent olarak verir.
+ * Burada ayni callback (cache + bulkhead decorator'lari dahil) cagrilir ve ToolResult alinir:
+ *   - outputSchema      → tool method'unun donus tipinden (ToolOutput record'u) uretilir
+ *   - structuredContent → ToolResult'taki Map (tool calistiginda bir kez uretilir, cache'te tutulur)
+ *   - content           → JSON metni; _meta: {"format": "text"} istenirse record'un toText()'i
+ *
+ * Cevap icin JSON metni hic parse edilmez; cache hit'lerinde sadece hazir degerler kullanilir.
+ * Tool'un attigi exception (bulunamayan kayit, gecersiz cursor, dolu bulkhead) isError=true sonuc olur.
+ *
+ * Her cagri bir span (bkz. McpRequestObservation) icinde calisir. Istegin _meta'sinda
+ * "traceparent" varsa span client'in trace'ine baglanir (bkz. client'taki TracedMcpCalls);
+ * repository span'leri bu span'in altinda acilir (bkz. RepositoryMethodTracker).
+ */
+public final class StructuredToolSpecifications {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    private StructuredToolSpecifications() {
+    }
+
+    public static McpServerFeatures.SyncToolSpecification of(StructuredToolCallback callback,
+                                                             Class<? extends ToolOutput> outputType,
+                                                             ObservationRegistry observationRegistry) {
+        McpSchema.Tool base = McpToolUtils.toSyncToolSpecification(callback).tool();
+        McpSchema.Tool tool = McpSchema.Tool.builder()
+                .name(base.name())
+                .title(base.title())
+                .description(base.description())
+                .inputSchema(base.inputSchema())
+                .outputSchema(outputSchema(outputType))
+                .annotations(base.annotations())
+                .build();
+
+        return McpServerFeatures.SyncToolSpecification.builder()
+                .tool(tool)
+                .callHandler((exchange, request) -> {
+                    Observation observation = McpRequestObservation.of("tools/call", tool.name(), request.meta(), observationRegistry);
+                    return observation.observe(() -> {
+                        McpSchema.CallToolResult result = call(callback, request);
+                        observation.lowCardinalityKeyValue("outcome",
+                                Boolean.TRUE.equals(result.isError()) ? "error" : "success");
+                        return result;
+                    });
+                })
+                .build();
+    }
+
+    private static McpSchema.CallToolResult call(StructuredToolCallback callback, McpSchema.CallToolRequest request) {
+        ToolResult result;
+        try {
+            result = callback.callForResult(JsonParser.toJson(request.arguments() != null ? request.arguments() : Map.of()), null);
+        } catch (RuntimeException e) {
+            return McpSchema.CallToolResult.builder()
+                    .addTextContent(errorMessage(e))
+                    .isError(true)
+                    .build();
+        }
+        String text = ToolOutput.textRequested(request.meta())
+                ? result.output().toText()
+                : result.json();
+        return McpSchema.CallToolResult.builder()
+                .addTextContent(text)
+                .structuredContent(result.structuredContent())
+                .build();
+    }
+
+    /**
+     * MethodToolCallback, tool'un attigi exception'i ToolExecutionException ile sarar;
+     * client'a tool'un kendi mesaji gider (ornek: "User with ID ... not found.").
+     */
+    private static String errorMessage(RuntimeException e) {
+        Throwable cause = e instanceof ToolExecutionException && e.getCause() != null ? e.getCause() : e;
+        return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+    }
+
+    /**
+     * Donus tipinin JSON semasi. Sayfanin nextCursor'u, entity'lerin bos alanlari gibi degerler
+     * null olabildigi icin alanlar zorunlu tutulmaz ve null'a izin verilir.
+     */
+    static Map<String, Object> outputSchema(Class<?> outputType) {
+        Map<String, Object> schema = JsonParser.fromJson(JsonSchemaGenerator.generateForType(outputType), MAP_TYPE);
+        relaxProperties(schema);
+        return schema;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void relaxProperties(Map<String, Object> schema) {
+        schema.remove("required");
+        if (schema.get("items") instanceof Map<?, ?> items) {
+            relaxProperties((Map<String, Object>) items);
+        }
+        if (schema.get("additionalProperties") instanceof Map<?, ?> values) {
+            relaxProperties((Map<String, Object>) values);
+        }
+        if (!(schema.get("properties") instanceof Map<?, ?> properties)) {
+            return;
+        }
+        Map<String, Object> relaxed = new LinkedHashMap<>();
+        properties.forEach((name, value) -> {
+            Map<String, Object> property = new LinkedHashMap<>((Map<String, Object>) value);
+            if (property.get("type") instanceof String type) {
+                property.put("type", List.of(type, "null"));
+            } else if (property.get("type") instanceof List<?> types && !types.contains("null")) {
+                List<Object> nullable = new ArrayList<>(types);
+                nullable.add("null");
+                property.put("type", nullable);
+            }
+            relaxProperties(property);
+            relaxed.put((String) name, property);
+        });
+        schema.put("properties", relaxed);
+    }
+}
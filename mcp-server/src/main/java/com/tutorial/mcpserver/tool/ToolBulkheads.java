@@ -0,0 +1,73 @@
+package com.tutorial.mcpserver.tool;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tool bazinda es zamanlilik sinirlari (bulkhead).
+ *
+ * Her tool'un kendi Semaphore'u vardir; agir bir tool'a gelen ani yuk (ornek: listMessages)
+ * sadece kendi kotasini doldurur, getUserById gibi ucuz tool'lari bekletmez ve
+ * Mongo connection pool'unu tek basina tuketemez.
+ *   - mcp.bulkhead.default-limit  → limiti ayrica verilmeyen tool'lar icin es zamanli cagri siniri
+ *   - mcp.bulkhead.limits.<tool>  → tool bazinda limit
+ *   - mcp.bulkhead.queue-timeout  → limit doluyken bir cagrinin en fazla ne kadar bekleyecegi
+ *
+ * Tool'lar istegi alan thread'de calisir (bkz. BulkheadToolCallback).
+ * Sayaclar: GET /internal/stats/bulkheads, Micrometer: mcp.tool.bulkhead.* (GET /actuator/prometheus)
+ */
+@Component
+public class ToolBulkheads {
+
+    private final Map<String, BulkheadToolCallback> bulkheads = new ConcurrentHashMap<>();
+
+    private final boolean enabled;
+    private final int defaultLimit;
+    private final Duration queueTimeout;
+    private final Map<String, Integer> limits;
+    private final MeterRegistry meterRegistry;
+
+    public ToolBulkheads(Environment environment,
+                         MeterRegistry meterRegistry,
+                         @Value("${mcp.bulkhead.enabled:true}") boolean enabled,
+                         @Value("${mcp.bulkhead.default-limit:16}") int defaultLimit,
+                         @Value("${mcp.bulkhead.queue-timeout:500ms}") Duration queueTimeout) {
+        this.enabled = enabled;
+        this.defaultLimit = defaultLimit;
+        this.queueTimeout = queueTimeout;
+        this.meterRegistry = meterRegistry;
+        this.limits = Binder.get(environment)
+                .bind("mcp.bulkhead.limits", Bindable.mapOf(String.class, Integer.class))
+                .orElse(Map.of());
+    }
+
+    /**
+     * Tool'u kendi bulkhead'i ile sarar.
+     */
+    public StructuredToolCallback decorate(StructuredToolCallback callback) {
+        if (!enabled) {
+            return callback;
+        }
+        String tool = callback.getToolDefinition().name();
+        int limit = limits.getOrDefault(tool, defaultLimit);
+        BulkheadToolCallback bulkhead = new BulkheadToolCallback(callback, limit, queueTimeout);
+        bulkhead.bindTo(meterRegistry);
+        bulkheads.put(tool, bulkhead);
+        return bulkhead;
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new TreeMap<>();
+        bulkheads.forEach((tool, bulkhead) -> result.put(tool, bulkhead.stats()));
+        return result;
+    }
+}
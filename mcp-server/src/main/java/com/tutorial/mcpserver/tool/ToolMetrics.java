@@ -0,0 +1,64 @@
+package com.tutorial.mcpserver.tool;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tool bazinda Micrometer metrikleri; Prometheus formatinda GET /actuator/prometheus.
+ *
+ *   mcp.tool.duration     (timer)   → tool, outcome (success | error): cagri sayisi ve sure
+ *   mcp.tool.errors       (counter) → tool, exception: hata turune gore (bulkhead reddi, bulunamayan kayit ...)
+ *   mcp.tool.result.size  (summary) → tool: sonuc JSON'unun byte boyutu
+ *
+ * Metrik decorator'u en distadir: cache'ten donen ve bulkhead'de bekleyen cagrilar da
+ * client'in gordugu sureyle olculur. Percentile histogram'lari application.yml'deki
+ * management.metrics.distribution ayarlari ile acilir.
+ */
+@Component
+public class ToolMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+
+    public ToolMetrics(MeterRegistry meterRegistry,
+                       @Value("${mcp.metrics.tools.enabled:true}") boolean enabled) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Tool'u metrik toplayan bir callback ile sarar.
+     */
+    public StructuredToolCallback decorate(StructuredToolCallback callback) {
+        if (!enabled) {
+            return callback;
+        }
+        return new MeteredToolCallback(callback, meterRegistry);
+    }
+
+    /**
+     * Tool / resource sonucunun UTF-8 byte boyutu; getBytes() ile kopya olusturmadan sayilir.
+     */
+    public static long utf8Length(String text) {
+        if (text == null) {
+            return 0;
+        }
+        long bytes = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                bytes++;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length()
+                    && Character.isLowSurrogate(text.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+}
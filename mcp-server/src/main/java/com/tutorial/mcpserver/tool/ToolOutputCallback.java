@@ -0,0 +1,66 @@
+package com.tutorial.mcpserver.tool;
+
+import com.tutorial.mcpserver.service.ToolOutput;
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.ai.tool.metadata.ToolMetadata;
+import org.springframework.ai.tool.method.MethodToolCallback;
+import org.springframework.ai.tool.support.ToolDefinitions;
+import org.springframework.ai.util.json.JsonParser;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+
+/**
+ * Decorator zincirinin en icteki halkasi: @Tool method'unu MethodToolCallback ile cagirir.
+ *
+ * MethodToolCallback arguman donusumunu ve exception sarmayi yapar ama sonucu sadece String
+ * olarak dondurur. Method'un dondurdugu ToolOutput record'u, result converter'dan ayni thread
+ * uzerinden alinir (MethodToolCallback.call converter'i senkron, cagiran thread'de calistirir).
+ */
+final class ToolOutputCallback implements StructuredToolCallback {
+
+    private static final ThreadLocal<ToolOutput> LAST_OUTPUT = new ThreadLocal<>();
+
+    private final ToolCallback delegate;
+
+    private ToolOutputCallback(ToolCallback delegate) {
+        this.delegate = delegate;
+    }
+
+    static ToolOutputCallback of(Object toolObject, Method toolMethod) {
+        return new ToolOutputCallback(MethodToolCallback.builder()
+                .toolDefinition(ToolDefinitions.from(toolMethod))
+                .toolMetadata(ToolMetadata.from(toolMethod))
+                .toolMethod(toolMethod)
+                .toolObject(toolObject)
+                .toolCallResultConverter(ToolOutputCallback::capture)
+                .build());
+    }
+
+    @Override
+    public ToolDefinition getToolDefinition() {
+        return delegate.getToolDefinition();
+    }
+
+    @Override
+    public ToolMetadata getToolMetadata() {
+        return delegate.getToolMetadata();
+    }
+
+    @Override
+    public ToolResult callForResult(String toolInput, ToolContext toolContext) {
+        try {
+            String json = delegate.call(toolInput, toolContext);
+            return ToolResult.of(LAST_OUTPUT.get(), json);
+        } finally {
+            LAST_OUTPUT.remove();
+        }
+    }
+
+    private static String capture(Object result, Type returnType) {
+        LAST_OUTPUT.set((ToolOutput) result);
+        return JsonParser.toJson(result);
+    }
+}
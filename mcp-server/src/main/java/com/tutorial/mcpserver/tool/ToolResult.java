@@ -0,0 +1,24 @@
+package com.tutorial.mcpserver.tool;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.tutorial.mcpserver.service.ToolOutput;
+import org.springframework.ai.util.json.JsonParser;
+
+import java.util.Map;
+
+/**
+ * Bir tool cagrisinin sonucu, MCP cevabinda kullanilan tum halleriyle.
+ *
+ * @param output            tool method'unun dondurdugu record; toText() metin cikti icin buradan cagrilir
+ * @param json              record'un JSON metni (content ve metrikler icin)
+ * @param structuredContent record'un Map hali; cache'te tutulur, her cagrida tekrar uretilmez
+ */
+public record ToolResult(ToolOutput output, String json, Map<String, Object> structuredContent) {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    static ToolResult of(ToolOutput output, String json) {
+        return new ToolResult(output, json, JsonParser.getObjectMapper().convertValue(output, MAP_TYPE));
+    }
+}
@@ -0,0 +1,208 @@
+package com.tutorial.mcpserver.tool;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Read-only MCP tool'larinin sonuc cache'i.
+ *
+ * Agent'lar ayni tool'u ayni argumanlarla tekrar tekrar cagirir
+ * (listSegments, findActiveSegments, getMessageStats ...). Sonuc (ToolResult: record, JSON metni
+ * ve structuredContent Map'i) (tool adi + argumanlar) anahtariyla Caffeine'de tutulur:
+ *   - mcp.tool-cache.max-size → en fazla kac sonuc tutulur (boyut limiti)
+ *   - mcp.tool-cache.ttl      → bir sonucun en fazla ne kadar yasayacagi
+ *
+ * Yazan tool'lar (createUser, createUsers, deleteUser, createMessage) basarili olunca
+ * sadece etkiledikleri kayitlari siler (bkz. onWrite).
+ *
+ * Hit/miss/eviction sayaclari Micrometer'a "mcpToolResults" cache adi ile de verilir (cache.gets, cache.evictions ...).
+ */
+@Component
+public class ToolResultCache {
+
+    /**
+     * Sonucu sadece argumanlarina ve veriye bagli olan tool'lar.
+     */
+    private static final Set<String> CACHEABLE_TOOLS = Set.of(
+            "listAllUsers", "getUserById", "findUsersByDepartment",
+            "listMessages", "getMessageById", "findMessagesByType", "findMessagesByStatus", "getMessageStats",
+            "listSegments", "getSegmentByCode", "findSegmentsByStatus", "findActiveSegments", "getSegmentStats");
+
+    private static final Set<String> WRITE_TOOLS = Set.of("createUser", "createUsers", "deleteUser", "createMessage");
+
+    private static final TypeReference<Map<String, Object>> ARGUMENTS_TYPE = new TypeReference<>() {
+    };
+
+    /**
+     * @param tool      tool adi
+     * @param arguments tool'a gelen JSON argumanlar (Map esitligi alan sirasindan bagimsizdir)
+     */
+    record Key(String tool, Map<String, Object> arguments) {
+    }
+
+    private final Cache<Key, ToolResult> cache;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+
+    /** Her invalidation'da artar; hesaplama surerken silinen bir sonucun geri yazilmasini engeller. */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public ToolResultCache(ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry,
+                           @Value("${mcp.tool-cache.enabled:true}") boolean enabled,
+                           @Value("${mcp.tool-cache.max-size:1000}") long maxSize,
+                           @Value("${mcp.tool-cache.ttl:30s}") Duration ttl) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "mcpToolResults");
+    }
+
+    /**
+     * Cache'lenen veya cache'i gecersiz kilan tool'lari sarar, digerlerini oldugu gibi dondurur.
+     */
+    public StructuredToolCallback decorate(StructuredToolCallback callback) {
+        String tool = callback.getToolDefinition().name();
+        if (!enabled || (!CACHEABLE_TOOLS.contains(tool) && !WRITE_TOOLS.contains(tool))) {
+            return callback;
+        }
+        return new CachingToolCallback(callback, this, CACHEABLE_TOOLS.contains(tool));
+    }
+
+    ToolResult getOrCompute(String tool, String toolInput, Supplier<ToolResult> call) {
+        Key key = new Key(tool, parseArguments(toolInput));
+        ToolResult cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = invalidations.get();
+        ToolResult result = call.get();
+        if (generation == invalidations.get()) {
+            cache.put(key, result);
+            // invalidate() sayaci artirip sonra removeIf calistirir: put'tan sonra sayac degismediyse
+            // sonraki removeIf bu kaydi gorur, degistiyse kayit burada silinir
+            if (generation != invalidations.get()) {
+                cache.asMap().remove(key, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Basarili bir yazma isleminden sonra etkilenen sonuclari siler.
+     */
+    void onWrite(String tool, String toolInput) {
+        Map<String, Object> args = parseArguments(toolInput);
+        switch (tool) {
+            case "createUser" -> {
+                invalidate("listAllUsers", all());
+                invalidate("findUsersByDepartment", argEquals("department", args.get("department")));
+            }
+            case "createUsers" -> {
+                // Kismi basari da basaridir; istekteki tum departmanlarin sonuclari silinir
+                invalidate("listAllUsers", all());
+                invalidate("findUsersByDepartment", argIn("department", valuesOf(args.get("users"), "department")));
+            }
+            case "deleteUser" -> {
+                // Silinen kullanicinin departmani bilinmiyor, tum departman sonuclari silinir
+                invalidate("listAllUsers", all());
+                invalidate("findUsersByDepartment", all());
+                invalidate("getUserById", argEquals("userId", args.get("userId")));
+            }
+            case "createMessage" -> {
+                // Yeni mesajlar her zaman DRAFT olarak olusturulur (bkz. MessageService.createMessage)
+                invalidate("listMessages", all());
+                invalidate("findMessagesByType", argEqualsIgnoreCase("msgType", args.get("msgType")));
+                invalidate("findMessagesByStatus", argEqualsIgnoreCase("sendStatus", "DRAFT"));
+                invalidate("getMessageStats", all());
+            }
+            default -> {
+            }
+        }
+    }
+
+    private void invalidate(String tool, Predicate<Map<String, Object>> matches) {
+        invalidations.incrementAndGet();
+        cache.asMap().keySet().removeIf(key -> key.tool().equals(tool) && matches.test(key.arguments()));
+    }
+
+    public Map<String, Object> stats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", enabled);
+        result.put("size", cache.estimatedSize());
+        result.put("hits", stats.hitCount());
+        result.put("misses", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictions", stats.evictionCount());
+        result.put("invalidations", invalidations.get());
+        return result;
+    }
+
+    private Map<String, Object> parseArguments(String toolInput) {
+        if (toolInput == null || toolInput.isBlank()) {
+            return Map.of();
+        }
+        try {
+            Map<String, Object> args = objectMapper.readValue(toolInput, ARGUMENTS_TYPE);
+            return args != null ? args : Map.of();
+        } catch (JsonProcessingException e) {
+            // Parse edilemeyen input'u tool'un kendisi reddedecek; cache anahtari olarak ham metin yeterli
+            return Map.of("$raw", toolInput);
+        }
+    }
+
+    private static Predicate<Map<String, Object>> all() {
+        return args -> true;
+    }
+
+    private static Predicate<Map<String, Object>> argEquals(String name, Object value) {
+        return args -> value != null && value.equals(args.get(name));
+    }
+
+    private static Predicate<Map<String, Object>> argIn(String name, Set<Object> values) {
+        return args -> values.contains(args.get(name));
+    }
+
+    /**
+     * Liste argumanindaki (ornek: createUsers.users) her elemanin verilen alani.
+     */
+    private static Set<Object> valuesOf(Object items, String name) {
+        Set<Object> values = new HashSet<>();
+        if (items instanceof List<?> list) {
+            for (Object item : list) {
+                if (item instanceof Map<?, ?> map && map.get(name) != null) {
+                    values.add(map.get(name));
+                }
+            }
+        }
+        return values;
+    }
+
+    private static Predicate<Map<String, Object>> argEqualsIgnoreCase(String name, Object value) {
+        return args -> value != null && args.get(name) != null
+                && value.toString().equalsIgnoreCase(args.get(name).toString());
+    }
+}
@@ -0,0 +1,90 @@
+package com.tutorial.mcpserver.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * RowTemplate ciktisinin String.format ile byte byte ayni oldugunu dogrular.
+ *
+ * Locale'ler gruplama ayraci (',' '.' '’' dar bosluk), gruplama boyutu (hi-IN) ve
+ * ASCII disi rakamlar (ar-EG → String.format'a birakilir) acisindan farkli durumlari kapsar.
+ */
+class RowTemplateTest {
+
+    private static final long[] NUMBERS = {
+            0, 7, -7, 999, 1_000, -1_000, 12_500, 1_234_567, -1_234_567,
+            Integer.MIN_VALUE, Integer.MAX_VALUE, Long.MAX_VALUE, Long.MIN_VALUE};
+
+    private static final String[] TEXTS = {"", "a", "tenchars!!", "longer than ten", "çğışöü", null};
+
+    private Locale previous;
+
+    @BeforeEach
+    void rememberLocale() {
+        previous = Locale.getDefault(Locale.Category.FORMAT);
+    }
+
+    @AfterEach
+    void restoreLocale() {
+        Locale.setDefault(Locale.Category.FORMAT, previous);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"en-US", "tr-TR", "de-DE", "de-CH", "fr-FR", "hi-IN", "ar-EG"})
+    void matchesStringFormat(String languageTag) {
+        Locale.setDefault(Locale.Category.FORMAT, Locale.forLanguageTag(languageTag));
+
+        RowTemplate row = RowTemplate.compile("  [%s] %-10s | audience: %,d%n");
+        RowTemplate padded = RowTemplate.compile("%8s|%d|%,14d %% done%n");
+        for (long number : NUMBERS) {
+            for (String text : TEXTS) {
+                StringBuilder sb = new StringBuilder();
+                row.writer(sb).text("id").text(text).number(number).end();
+                assertEquals(String.format("  [%s] %-10s | audience: %,d%n", "id", text, number), sb.toString(),
+                        languageTag + " " + text + " " + number);
+
+                sb.setLength(0);
+                padded.writer(sb).text(text).number(number).number(number).end();
+                assertEquals(String.format("%8s|%d|%,14d %% done%n", text, number, number), sb.toString(),
+                        languageTag + " " + text + " " + number);
+            }
+        }
+    }
+
+    @Test
+    void writerReusedAcrossRows() {
+        Locale.setDefault(Locale.Category.FORMAT, Locale.forLanguageTag("tr-TR"));
+        RowTemplate template = RowTemplate.compile("%-6s %,d%n");
+
+        StringBuilder sb = new StringBuilder();
+        RowTemplate.Row row = template.writer(sb);
+        row.text("a").number(12_500).end();
+        row.text("b").number(-3).end();
+
+        assertEquals(String.format("%-6s %,d%n", "a", 12_500) + String.format("%-6s %,d%n", "b", -3), sb.toString());
+    }
+
+    @Test
+    void rejectsUnsupportedPatterns() {
+        assertThrows(IllegalArgumentException.class, () -> RowTemplate.compile("%.2f"));
+        assertThrows(IllegalArgumentException.class, () -> RowTemplate.compile("%,s"));
+        assertThrows(IllegalArgumentException.class, () -> RowTemplate.compile("%-s"));
+        assertThrows(IllegalArgumentException.class, () -> RowTemplate.compile("trailing %"));
+    }
+
+    @Test
+    void rejectsWrongValueOrder() {
+        RowTemplate template = RowTemplate.compile("%s %d");
+        StringBuilder sb = new StringBuilder();
+        assertThrows(IllegalStateException.class, () -> template.writer(sb).number(1));
+        assertThrows(IllegalStateException.class, () -> template.writer(sb).text("a").end());
+    }
+}